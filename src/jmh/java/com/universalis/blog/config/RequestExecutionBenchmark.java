@@ -0,0 +1,186 @@
+package com.universalis.blog.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universalis.blog.BlogApplication;
+import com.universalis.blog.domain.authentication.dtos.LoginRequest;
+import com.universalis.blog.domain.category.dtos.CreateCategoryRequest;
+import com.universalis.blog.domain.post.dtos.CreatePostRequestDTO;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * One wave of 2000 concurrent HTTP clients against the running application (embedded Tomcat, Hikari, JPA on
+ * in-memory H2), with request handling on Tomcat's 200 platform threads or on virtual threads
+ * ({@code spring.threads.virtual.enabled}). {@code post} loads a full post per request, {@code listing} reads
+ * a page of summaries. The Hikari pool (10 connections by default) bounds both modes; with virtual threads the
+ * pinning monitor is on and {@code pinnedThreads} reports the threads it saw pinned in each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestExecutionBenchmark {
+
+    private static final int CONCURRENT_CLIENTS = 2000;
+    private static final int POSTS = 500;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Pinning {
+
+        public long pinnedThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pinnedThreads = 0;
+        }
+    }
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"post", "listing"})
+    private String endpoint;
+
+    private ConfigurableApplicationContext context;
+    private MeterRegistry meterRegistry;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUrl;
+    private final List<URI> postUris = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(BlogApplication.class)
+                .properties(Map.ofEntries(
+                        Map.entry("server.port", "0"),
+                        Map.entry("spring.main.banner-mode", "off"),
+                        Map.entry("spring.datasource.url", "jdbc:h2:mem:request-execution;DB_CLOSE_DELAY=-1"),
+                        Map.entry("spring.datasource.username", "sa"),
+                        Map.entry("spring.datasource.password", ""),
+                        Map.entry("spring.jpa.hibernate.ddl-auto", "create-drop"),
+                        Map.entry("spring.threads.virtual.enabled", String.valueOf(virtualThreads)),
+                        Map.entry("diagnostics.virtual-thread-pinning.enabled", String.valueOf(virtualThreads)),
+                        Map.entry("logging.level.root", "WARN"),
+                        Map.entry("logging.level.com.universalis.blog", "WARN"),
+                        Map.entry("logging.level.org.springframework.security", "WARN")))
+                .run();
+        meterRegistry = context.getBean(MeterRegistry.class);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder().executor(clientExecutor).build();
+        seed(context.getBean(ObjectMapper.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        clientExecutor.close();
+        context.close();
+    }
+
+    @Benchmark
+    public void concurrentRequests(Pinning pinning, Blackhole blackhole) {
+        double pinnedBefore = pinnedThreads();
+        List<CompletableFuture<HttpResponse<byte[]>>> responses = IntStream.range(0, CONCURRENT_CLIENTS)
+                .mapToObj(this::request)
+                .map(request -> client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()))
+                .toList();
+        for (CompletableFuture<HttpResponse<byte[]>> response : responses) {
+            HttpResponse<byte[]> result = response.join();
+            if (result.statusCode() != 200) {
+                throw new IllegalStateException("Unexpected status " + result.statusCode() + " for " + result.uri());
+            }
+            blackhole.consume(result.body());
+        }
+        pinning.pinnedThreads += Math.round(pinnedThreads() - pinnedBefore);
+    }
+
+    // Stays at zero on platform threads, where the pinning monitor is off
+    private double pinnedThreads() {
+        return meterRegistry.find("jvm.threads.virtual.pinned").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private HttpRequest request(int client) {
+        URI uri = "post".equals(endpoint)
+                ? postUris.get(client % postUris.size())
+                : URI.create(baseUrl + "/api/v1/posts?size=20");
+        return HttpRequest.newBuilder(uri).GET().build();
+    }
+
+    // Creates the category and posts through the API, as a client would
+    private void seed(ObjectMapper objectMapper) throws IOException, InterruptedException {
+        JsonNode login = post(objectMapper, "/api/v1/auth/login", null,
+                new LoginRequest("user@uni.com", "haslomaslo"));
+        String token = login.get("accessToken").asText();
+        JsonNode category = post(objectMapper, "/api/v1/categories", token,
+                CreateCategoryRequest.builder().name("Benchmarks").build());
+        UUID categoryId = UUID.fromString(category.get("id").asText());
+        List<CreatePostRequestDTO> posts = IntStream.range(0, POSTS)
+                .mapToObj(i -> CreatePostRequestDTO.builder()
+                        .title("Post " + i)
+                        .content("Paragraph of a benchmark post. ".repeat(100))
+                        .categoryId(categoryId)
+                        .status(PostStatus.PUBLISHED)
+                        .build())
+                .toList();
+        JsonNode report = post(objectMapper, "/api/v1/posts/import", token, posts);
+        report.get("results").forEach(result ->
+                postUris.add(URI.create(baseUrl + "/api/v1/posts/" + result.get("id").asText())));
+    }
+
+    private JsonNode post(ObjectMapper objectMapper, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Seeding " + path + " failed with status " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
@@ -0,0 +1,91 @@
+package com.universalis.blog.domain.post.entities;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of writing and reading a post body through {@link PostBodyCodec}, with compression on and off, next to
+ * the bytes it stores. {@code storedBytes / rawBytes} is the share of I/O and table size left; the time per
+ * operation times the number of posts (e.g. 1M) is the CPU spent to save it, on writes and on every full read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostBodyCodecBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "quick", "brown", "fox", "jumps", "over", "lazy", "dog", "zażółć", "gęślą", "jaźń", "benchmark",
+            "spring", "java", "post", "reading", "index", "transaction", "latency", "throughput"
+    };
+    private static final String[] SEPARATORS = {" ", " ", " ", ", ", ". ", "\n\n"};
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredSize {
+
+        public long rawBytes;
+        public long storedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rawBytes = 0;
+            storedBytes = 0;
+        }
+    }
+
+    @Param({"true", "false"})
+    private boolean compression;
+
+    @Param({"2048", "16384", "262144", "1048576"})
+    private int bodySize;
+
+    private PostBodyCodec codec;
+    private String content;
+    private int rawLength;
+    private byte[] stored;
+
+    @Setup
+    public void setUp() {
+        codec = new PostBodyCodec(compression, 2048);
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(bodySize + 16);
+        while (builder.length() < bodySize) {
+            builder.append(WORDS[random.nextInt(WORDS.length)])
+                    .append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        content = builder.substring(0, bodySize);
+        rawLength = content.getBytes(StandardCharsets.UTF_8).length;
+        stored = codec.convertToDatabaseColumn(content);
+    }
+
+    @Benchmark
+    public byte[] write(StoredSize size) {
+        byte[] written = codec.convertToDatabaseColumn(content);
+        size.rawBytes += rawLength;
+        size.storedBytes += written.length;
+        return written;
+    }
+
+    @Benchmark
+    public String read() {
+        return codec.convertToEntityAttribute(stored);
+    }
+}
@@ -0,0 +1,78 @@
+package com.universalis.blog.domain.post.mappers;
+
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.post.dtos.PostDTO;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.tag.entities.Tag;
+import com.universalis.blog.domain.user.entities.User;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link PostMapper#toDTO} for a post with its author, category and tags loaded.
+ * The content is copied by reference, so body size should not move the numbers; a regression here usually
+ * means a mapping started walking something it did not before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostMapperBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int bodySize;
+
+    @Param({"5", "50"})
+    private int tagCount;
+
+    private PostMapper postMapper;
+    private Post post;
+
+    @Setup
+    public void setUp() {
+        postMapper = Mappers.getMapper(PostMapper.class);
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.builder().id(UUID.randomUUID()).name("tag-" + i).build());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        post = Post.builder()
+                .id(UUID.randomUUID())
+                .title("Benchmark post")
+                .content("x".repeat(bodySize))
+                .status(PostStatus.PUBLISHED)
+                .readingTime(5)
+                .wordCount(1000)
+                .author(User.builder().id(UUID.randomUUID()).name("Benchmark user").email("benchmark@example.com").build())
+                .category(Category.builder().id(UUID.randomUUID()).name("Benchmarks").build())
+                .tags(tags)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public PostDTO toDTO() {
+        return postMapper.toDTO(post);
+    }
+}
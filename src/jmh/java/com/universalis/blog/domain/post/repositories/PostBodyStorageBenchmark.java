@@ -0,0 +1,235 @@
+package com.universalis.blog.domain.post.repositories;
+
+import com.universalis.blog.BlogApplication;
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.category.repositories.CategoryRepository;
+import com.universalis.blog.domain.post.dtos.CreatePostRequest;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.PostSort;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.services.PostService;
+import com.universalis.blog.domain.user.entities.User;
+import com.universalis.blog.domain.user.repositories.UserRepository;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The repository queries behind post listings ({@code findSummaries} and {@code findSummariesByIds}), catalog counts
+ * ({@code findAllWithPostCount}) and single post loads ({@code findById}, used by updates, deletes and ownership
+ * checks), on the real entity mapping with Hibernate on in-memory H2. None of them should read post_bodies, so their
+ * time and {@code driverBytes / calls}, the bytes of the column values read from the JDBC result sets per call, should
+ * not grow with {@code bodySize}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostBodyStorageBenchmark {
+
+    private static final int POSTS = 200;
+    private static final int CATEGORIES = 10;
+    private static final int PAGE_SIZE = 20;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class DriverReads {
+
+        public long calls;
+        public long driverBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            calls = 0;
+            driverBytes = 0;
+        }
+    }
+
+    @Param({"1024", "65536", "1048576"})
+    private int bodySize;
+
+    // Bytes of every value read through a result set of the proxied data source
+    private final AtomicLong bytesRead = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private PostRepository postRepository;
+    private CategoryRepository categoryRepository;
+    private final Specification<Post> firstPage = PostSpecifications.listing(PostFilter.builder().build(), null);
+    private final Sort newestFirst = PostSpecifications.listingOrder(PostSort.NEWEST);
+    private final List<UUID> postIds = new ArrayList<>();
+    private final List<UUID> publishedPage = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BlogApplication.class)
+                .properties(Map.ofEntries(
+                        Map.entry("server.port", "0"),
+                        Map.entry("spring.main.banner-mode", "off"),
+                        Map.entry("spring.datasource.url", "jdbc:h2:mem:post-bodies-" + bodySize + ";DB_CLOSE_DELAY=-1"),
+                        Map.entry("spring.datasource.username", "sa"),
+                        Map.entry("spring.datasource.password", ""),
+                        Map.entry("spring.jpa.hibernate.ddl-auto", "create-drop"),
+                        Map.entry("diagnostics.queries.enabled", "false"),
+                        Map.entry("logging.level.root", "WARN"),
+                        Map.entry("logging.level.com.universalis.blog", "WARN")))
+                .initializers(application -> application.getBeanFactory().addBeanPostProcessor(countingDataSourceProxy()))
+                .run();
+        postRepository = context.getBean(PostRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<?> listing(DriverReads reads) {
+        long before = bytesRead.get();
+        List<?> page = postRepository.findSummaries(firstPage, newestFirst, Limit.of(PAGE_SIZE));
+        count(reads, before);
+        return page;
+    }
+
+    @Benchmark
+    public List<?> summariesByIds(DriverReads reads) {
+        long before = bytesRead.get();
+        List<?> page = postRepository.findSummariesByIds(PostStatus.PUBLISHED, publishedPage);
+        count(reads, before);
+        return page;
+    }
+
+    @Benchmark
+    public List<?> catalogCounts(DriverReads reads) {
+        long before = bytesRead.get();
+        List<?> counts = categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED);
+        count(reads, before);
+        return counts;
+    }
+
+    @Benchmark
+    public Optional<Post> loadPost(DriverReads reads) {
+        long before = bytesRead.get();
+        Optional<Post> post = postRepository.findById(postIds.get(next++ % POSTS));
+        count(reads, before);
+        return post;
+    }
+
+    private void count(DriverReads reads, long before) {
+        reads.calls++;
+        reads.driverBytes += bytesRead.get() - before;
+    }
+
+    // Wraps the data source so every column getter on a result set adds the size of the value it returned
+    private BeanPostProcessor countingDataSourceProxy() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .proxyResultSet()
+                        .afterMethod(this::record)
+                        .build();
+            }
+
+            private void record(MethodExecutionContext execution) {
+                Object[] arguments = execution.getMethodArgs();
+                if (execution.getTarget() instanceof ResultSet && execution.getMethod().getName().startsWith("get")
+                        && arguments != null && arguments.length > 0) {
+                    bytesRead.addAndGet(size(execution.getResult()));
+                }
+            }
+        };
+    }
+
+    // Encoded length for text and binary values, fixed width for the rest
+    private static long size(Object value) {
+        return switch (value) {
+            case null -> 0;
+            case String text -> text.getBytes(StandardCharsets.UTF_8).length;
+            case byte[] bytes -> bytes.length;
+            case UUID uuid -> 16;
+            case Integer integer -> 4;
+            case Number number -> 8;
+            case Temporal temporal -> 8;
+            case Date date -> 8;
+            case Boolean flag -> 1;
+            default -> 0;
+        };
+    }
+
+    // Posts go through PostService, so excerpts, reading times and compressed bodies are stored as in production
+    private void seed() {
+        User author = context.getBean(UserRepository.class).save(User.builder()
+                .email("storage@example.com")
+                .password("password123")
+                .name("Storage benchmark")
+                .createdAt(LocalDateTime.now())
+                .build());
+        List<UUID> categoryIds = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            categoryIds.add(categoryRepository.save(Category.builder()
+                    .name("Category " + i)
+                    .posts(new ArrayList<>())
+                    .build()).getId());
+        }
+        PostService postService = context.getBean(PostService.class);
+        Random random = new Random(42);
+        String body = "lorem ipsum ".repeat(bodySize / 12 + 1).substring(0, bodySize);
+        for (int i = 0; i < POSTS; i++) {
+            PostStatus status = random.nextInt(5) == 0 ? PostStatus.DRAFT : PostStatus.PUBLISHED;
+            Post post = postService.createPost(author, CreatePostRequest.builder()
+                    .title("Post " + i)
+                    .content(body)
+                    .categoryId(categoryIds.get(random.nextInt(CATEGORIES)))
+                    .status(status)
+                    .build());
+            postIds.add(post.getId());
+            if (status == PostStatus.PUBLISHED && publishedPage.size() < PAGE_SIZE) {
+                publishedPage.add(post.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Word counting for reading time: {@link WordCounter} against the regex split it replaced, and the full
+ * {@link PostServiceImpl#calculateReadingTime} path run on every post create and update.
+ * Run with {@code -prof gc} to compare allocation per operation as well as time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordCounterBenchmark {
+
+    private static final String[] WORDS = {
+            "the", "quick", "brown", "fox", "jumps", "over", "lazy", "dog", "zażółć", "gęślą", "jaźń", "benchmark"
+    };
+    private static final String[] SEPARATORS = {" ", " ", " ", "  ", "\n", "\n\n", "\t", " "};
+
+    @Param({"1024", "65536", "1048576", "5242880"})
+    private int bodySize;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(bodySize + 16);
+        while (builder.length() < bodySize) {
+            builder.append(WORDS[random.nextInt(WORDS.length)])
+                    .append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+        }
+        content = builder.substring(0, bodySize);
+    }
+
+    @Benchmark
+    public int singlePass() {
+        return WordCounter.count(content);
+    }
+
+    @Benchmark
+    public int readingTime() {
+        return PostServiceImpl.calculateReadingTime(WordCounter.count(content));
+    }
+
+    @Benchmark
+    public int regexSplit() {
+        return content.trim().split("\\s+").length;
+    }
+}
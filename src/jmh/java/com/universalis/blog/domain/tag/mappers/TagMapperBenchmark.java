@@ -0,0 +1,67 @@
+package com.universalis.blog.domain.tag.mappers;
+
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counting the published posts of a tag with {@link TagMapper#calculatePostCount}, which walks the whole
+ * collection. Roughly four in five posts are published, as on a live blog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagMapperBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int postCount;
+
+    private TagMapper tagMapper;
+    private Set<Post> posts;
+
+    @Setup
+    public void setUp() {
+        tagMapper = Mappers.getMapper(TagMapper.class);
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        posts = new HashSet<>();
+        for (int i = 0; i < postCount; i++) {
+            posts.add(Post.builder()
+                    .id(UUID.randomUUID())
+                    .title("Post " + i)
+                    .content("Content " + i)
+                    .status(random.nextInt(5) == 0 ? PostStatus.DRAFT : PostStatus.PUBLISHED)
+                    .readingTime(1)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public Integer calculatePostCount() {
+        return tagMapper.calculatePostCount(posts);
+    }
+}
@@ -0,0 +1,84 @@
+package com.universalis.blog.security;
+
+import com.universalis.blog.domain.authentication.services.impl.AccessTokenRevocationService;
+import com.universalis.blog.domain.authentication.services.impl.AuthenticationServiceImpl;
+import com.universalis.blog.domain.user.entities.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@link JwtAuthenticationFilter}.
+ * The principal is built from the token claims, so the numbers isolate JWT parsing and signature verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET =
+            "bXktMjU2LWJpdC1zZWNyZXQta2V5LWhlcmUtbWFrZS1pdC1hdC1sZWFzdC0zMi1ieXRlcy1sb25n";
+
+    private AuthenticationServiceImpl authenticationService;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .email("benchmark@example.com")
+                .name("Benchmark user")
+                .password("{noop}password")
+                .createdAt(LocalDateTime.now())
+                .build();
+        BlogUserDetails userDetails = new BlogUserDetails(user);
+
+        authenticationService = new AuthenticationServiceImpl(
+                null, username -> userDetails, null, null, new AccessTokenRevocationService());
+        ReflectionTestUtils.setField(authenticationService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(authenticationService, "statelessPrincipal", true);
+        ReflectionTestUtils.setField(authenticationService, "revocationCheck", true);
+        ReflectionTestUtils.setField(authenticationService, "accessTokenExpiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.invokeMethod(authenticationService, "initSigningKey");
+        token = ReflectionTestUtils.invokeMethod(authenticationService, "generateAccessToken", userDetails);
+
+        filter = new JwtAuthenticationFilter(authenticationService);
+    }
+
+    @Benchmark
+    public UserDetails validateToken() {
+        return authenticationService.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication filterRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts/drafts");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
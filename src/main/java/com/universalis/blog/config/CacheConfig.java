@@ -0,0 +1,19 @@
+package com.universalis.blog.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables the read-through caches for the public tag and category catalogs.
+ * The cache manager itself is auto-configured from the {@code spring.cache.*} properties.
+ */
+@Configuration
+// Ordered just outside the transaction interceptor, so evictions happen after the write has committed
+// and a concurrent read cannot repopulate the cache with pre-commit data.
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String TAGS_CACHE = "tags";
+    public static final String CATEGORIES_CACHE = "categories";
+}
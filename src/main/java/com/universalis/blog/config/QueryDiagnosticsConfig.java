@@ -0,0 +1,55 @@
+package com.universalis.blog.config;
+
+import net.ttddyy.dsproxy.listener.logging.SLF4JLogLevel;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps the data source in a datasource-proxy that logs slow statements with their bind parameters,
+ * counts statements per thread (read by test assertions) and feeds the per-request {@link QueryDiagnosticsFilter}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "diagnostics.queries.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryDiagnosticsConfig {
+
+    @Bean
+    static RequestQueryTracker requestQueryTracker() {
+        return new RequestQueryTracker();
+    }
+
+    @Bean
+    static BeanPostProcessor queryDiagnosticsDataSourceProxy(
+            RequestQueryTracker requestQueryTracker,
+            @Value("${diagnostics.queries.slow-threshold:200ms}") Duration slowThreshold) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .logSlowQueryBySlf4j(slowThreshold.toMillis(), TimeUnit.MILLISECONDS, SLF4JLogLevel.WARN)
+                        .countQuery()
+                        .listener(requestQueryTracker)
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    QueryDiagnosticsFilter queryDiagnosticsFilter(
+            RequestQueryTracker requestQueryTracker,
+            @Value("${diagnostics.queries.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        return new QueryDiagnosticsFilter(requestQueryTracker, nPlusOneThreshold);
+    }
+}
@@ -0,0 +1,45 @@
+package com.universalis.blog.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Logs how many statements each request ran and how long they took, and warns when the same SQL ran
+ * often enough within one request to suggest an N+1 query.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryDiagnosticsFilter extends OncePerRequestFilter {
+
+    private final RequestQueryTracker requestQueryTracker;
+    private final int nPlusOneThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        requestQueryTracker.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            report(request, requestQueryTracker.end());
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueryTracker.RequestQueries queries) {
+        if (queries == null || queries.getStatementCount() == 0) {
+            return;
+        }
+        log.debug("{} {} ran {} statements in {} ms", request.getMethod(), request.getRequestURI(),
+                queries.getStatementCount(), queries.getElapsedMillis());
+        queries.repeatedAtLeast(nPlusOneThreshold).forEach((sql, executions) ->
+                log.warn("Possible N+1 in {} {}: statement ran {} times: {}", request.getMethod(),
+                        request.getRequestURI(), executions, sql));
+    }
+}
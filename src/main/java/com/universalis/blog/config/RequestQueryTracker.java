@@ -0,0 +1,75 @@
+package com.universalis.blog.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the statements executed on the current thread between {@link #begin()} and {@link #end()},
+ * i.e. within one request. Statements run outside a tracked request are ignored.
+ */
+public class RequestQueryTracker implements QueryExecutionListener {
+
+    private final ThreadLocal<RequestQueries> current = new ThreadLocal<>();
+
+    public void begin() {
+        current.set(new RequestQueries());
+    }
+
+    public RequestQueries end() {
+        RequestQueries queries = current.get();
+        current.remove();
+        return queries;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueries queries = current.get();
+        if (queries != null) {
+            queries.record(execInfo, queryInfoList);
+        }
+    }
+
+    public static final class RequestQueries {
+
+        private int statementCount;
+        private long elapsedMillis;
+        // Batched executions are excluded: one statement run per batch is expected, not an N+1
+        private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+        private void record(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            statementCount += queryInfoList.size();
+            elapsedMillis += execInfo.getElapsedTime();
+            if (!execInfo.isBatch()) {
+                queryInfoList.forEach(queryInfo -> executionsBySql.merge(queryInfo.getQuery(), 1, Integer::sum));
+            }
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * @param threshold Minimum number of executions of the same SQL text
+         * @return SQL text run at least {@code threshold} times, with its execution count
+         */
+        public Map<String, Integer> repeatedAtLeast(int threshold) {
+            return executionsBySql.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        }
+    }
+}
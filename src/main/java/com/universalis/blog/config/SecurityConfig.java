@@ -5,7 +5,12 @@ import com.universalis.blog.domain.user.repositories.UserRepository;
 import com.universalis.blog.security.BlogUserDetailsService;
 import com.universalis.blog.security.JwtAuthenticationFilter;
 import com.universalis.blog.domain.authentication.services.AuthenticationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,13 +20,14 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -36,8 +42,14 @@ public class SecurityConfig {
     }
 
     @Bean
-    public UserDetailsService userDetailsService(UserRepository userRepository) {
-        BlogUserDetailsService blogUserDetailsService = new BlogUserDetailsService(userRepository);
+    public BlogUserDetailsService userDetailsService(
+            UserRepository userRepository,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${security.user-cache.maximum-size:10000}") long userCacheMaximumSize,
+            @Value("${security.user-cache.time-to-live:PT5M}") Duration userCacheTimeToLive) {
+        BlogUserDetailsService blogUserDetailsService =
+                new BlogUserDetailsService(userRepository, userCacheMaximumSize, userCacheTimeToLive);
+        meterRegistry.ifAvailable(blogUserDetailsService::bindTo);
         String email = "user@uni.com";
         userRepository.findByEmail(email).orElseGet(() -> {
             User user = User.builder()
@@ -56,10 +68,15 @@ public class SecurityConfig {
                 .exceptionHandling(exceptions ->
                         exceptions.authenticationEntryPoint(jwtAuthenticationEntryPoint))
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses finish on an async dispatch that carries no JWT; the request was authorized already
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.GET, "/").permitAll()
+                        // Probes and the Prometheus scraper carry no user token; the other actuator endpoints stay authenticated
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/register").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/login").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/drafts").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/posts/export").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/categories/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/tags").permitAll()
@@ -0,0 +1,46 @@
+package com.universalis.blog.domain.authentication.services.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers, per user, the moment their outstanding access tokens were revoked (e.g. on logout).
+ * Entries only need to outlive the access token lifetime, so the map stays small and lookups never touch the database.
+ * The registry is local to one application instance.
+ */
+@Service
+public class AccessTokenRevocationService {
+
+    private final Map<UUID, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+    @Value("${jwt.access-token-expiration:900000}")
+    private Long accessTokenExpiration;
+
+    public void revokeAll(UUID userId) {
+        // JWT "iat" has second precision, so the cutoff does too. Tokens issued in the logout second are revoked
+        // along with older ones, so a login within the same second as the logout has to be repeated.
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        revokedBefore.put(userId, now);
+        purgeExpired(now);
+    }
+
+    public boolean isRevoked(UUID userId, Date issuedAt) {
+        Instant cutoff = revokedBefore.get(userId);
+        if (cutoff == null) {
+            return false;
+        }
+        return issuedAt == null || !issuedAt.toInstant().isAfter(cutoff);
+    }
+
+    private void purgeExpired(Instant now) {
+        Instant oldestLiveToken = now.minusMillis(accessTokenExpiration);
+        revokedBefore.values().removeIf(cutoff -> cutoff.isBefore(oldestLiveToken));
+    }
+}
@@ -14,11 +14,13 @@ import com.universalis.blog.domain.authentication.services.AuthenticationService
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
@@ -26,17 +28,23 @@ import org.springframework.stereotype.Service;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AuthenticationServiceImpl implements AuthenticationService {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
+
     private final AuthenticationManager authenticationManager;
     private final UserDetailsService userDetailsService;
     private final RefreshTokenService refreshTokenService;
     private final UserService userService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
     @Value("${jwt.secret}")
     private String secretKey;
@@ -49,6 +57,25 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Value("${jwt.refresh-token-expiration:86400000}") // 24 hours
     private Long refreshTokenExpiration;
 
+    // When enabled, the principal is rebuilt from the token claims instead of loading the user on every request.
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    @Value("${jwt.revocation-check:true}")
+    private boolean revocationCheck;
+
+    // Built once: decoding the secret and creating the HMAC key and parser on every request is pure overhead.
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void initSigningKey() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     @Override
     public AuthenticationResponse authenticate(String email, String password) {
         authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password));
@@ -87,34 +114,38 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     private String generateAccessToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("roles", userDetails.getAuthorities().stream()
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList()));
+        if (userDetails instanceof BlogUserDetails blogUserDetails) {
+            claims.put(USER_ID_CLAIM, blogUserDetails.getId().toString());
+        }
 
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     @Override
     public UserDetails validateToken(String token) {
         try {
+            // The parser verifies the signature and rejects expired tokens in the same pass.
             Claims claims = extractAllClaims(token);
             String username = claims.getSubject();
 
-            if (username != null && !isTokenExpired(token)) {
-                return userDetailsService.loadUserByUsername(username);
+            if (username == null) {
+                throw new InvalidTokenException("JWT token has no subject");
             }
+            return resolveUserDetails(username, claims);
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException("JWT token has expired");
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             throw new InvalidTokenException("Invalid JWT token");
         }
-        return null;
     }
 
     @Override
@@ -134,20 +165,37 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private UserDetails resolveUserDetails(String username, Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        // Tokens issued before the user id claim existed still go through the user lookup.
+        if (userId == null) {
+            return userDetailsService.loadUserByUsername(username);
+        }
+        UUID id = UUID.fromString(userId);
+        if (revocationCheck && accessTokenRevocationService.isRevoked(id, claims.getIssuedAt())) {
+            throw new InvalidTokenException("JWT token has been revoked");
+        }
+        if (statelessPrincipal) {
+            return userDetailsFromClaims(id, username, claims);
+        }
+        return userDetailsService.loadUserByUsername(username);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractAllClaims(token).getExpiration().before(new Date());
+    private BlogUserDetails userDetailsFromClaims(UUID userId, String email, Claims claims) {
+        User user = User.builder()
+                .id(userId)
+                .email(email)
+                .build();
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        List<GrantedAuthority> authorities = roles == null
+                ? List.of()
+                : roles.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                .toList();
+        return new BlogUserDetails(user, authorities);
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Claims extractAllClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
@@ -18,6 +18,7 @@ public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
     @Value("${jwt.refresh-token-expiration:86400000}")
     private Long refreshTokenExpiration;
@@ -49,5 +50,7 @@ public class RefreshTokenService {
 
     public void deleteByUserId(UUID userId) {
         refreshTokenRepository.deleteByUserId(userId);
+        // Access tokens are validated without a database lookup, so logging out has to revoke them explicitly.
+        accessTokenRevocationService.revokeAll(userId);
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.universalis.blog.domain.category.controllers;
 
+import com.universalis.blog.domain.common.controllers.ConditionalRequests;
+import com.universalis.blog.domain.common.services.ContentVersions;
 import com.universalis.blog.domain.category.dtos.CategoryDTO;
 import com.universalis.blog.domain.category.dtos.CreateCategoryRequest;
 import com.universalis.blog.domain.category.entities.Category;
@@ -10,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,13 +24,17 @@ public class CategoryController {
 
     private final CategoryService categoryService;
     private final CategoryMapper categoryMapper;
+    private final ConditionalRequests conditionalRequests;
 
     @GetMapping
-    public ResponseEntity<List<CategoryDTO>> listCategories() {
+    public ResponseEntity<List<CategoryDTO>> listCategories(WebRequest request) {
+        if (conditionalRequests.checkNotModified(request, ContentVersions.Collection.CATEGORIES)) {
+            return conditionalRequests.notModified();
+        }
         List<CategoryDTO> categories = categoryService.listCategories().stream()
                 .map(categoryMapper::toDTO)
                 .toList();
-        return ResponseEntity.ok(categories);
+        return conditionalRequests.ok(categories);
     }
 
     @PostMapping
@@ -0,0 +1,10 @@
+package com.universalis.blog.domain.category.dtos;
+
+import java.util.UUID;
+
+public interface CategoryWithPostCount {
+
+    UUID getId();
+    String getName();
+    Long getPostCount();
+}
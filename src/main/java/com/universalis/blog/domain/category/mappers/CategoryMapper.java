@@ -2,6 +2,7 @@ package com.universalis.blog.domain.category.mappers;
 
 import com.universalis.blog.domain.post.entities.PostStatus;
 import com.universalis.blog.domain.category.dtos.CategoryDTO;
+import com.universalis.blog.domain.category.dtos.CategoryWithPostCount;
 import com.universalis.blog.domain.category.dtos.CreateCategoryRequest;
 import com.universalis.blog.domain.category.entities.Category;
 import com.universalis.blog.domain.post.entities.Post;
@@ -18,6 +19,8 @@ public interface CategoryMapper {
     @Mapping(target = "postCount", source = "posts", qualifiedByName = "calculatePostCount")
     CategoryDTO toDTO(Category category);
 
+    CategoryDTO toDTO(CategoryWithPostCount categoryWithPostCount);
+
 
     @Named("calculatePostCount")
     default long calculatePostCount(List<Post> posts) {
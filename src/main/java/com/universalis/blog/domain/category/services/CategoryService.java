@@ -1,14 +1,17 @@
 package com.universalis.blog.domain.category.services;
 
+import com.universalis.blog.domain.category.dtos.CategoryWithPostCount;
 import com.universalis.blog.domain.category.entities.Category;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CategoryService {
 
-    List<Category> listCategories();
+    List<CategoryWithPostCount> listCategories();
     Category getCategoryById(UUID id);
+    List<Category> getCategoriesByIds(Set<UUID> ids);
     Category createCategory(Category category);
     void deleteCategory(UUID id);
 }
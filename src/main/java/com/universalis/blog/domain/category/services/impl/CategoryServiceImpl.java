@@ -1,15 +1,22 @@
 package com.universalis.blog.domain.category.services.impl;
 
+import com.universalis.blog.config.CacheConfig;
+import com.universalis.blog.domain.common.services.ContentVersions;
+import com.universalis.blog.domain.category.dtos.CategoryWithPostCount;
 import com.universalis.blog.domain.category.entities.Category;
 import com.universalis.blog.domain.category.repositories.CategoryRepository;
 import com.universalis.blog.domain.category.services.CategoryService;
+import com.universalis.blog.domain.post.entities.PostStatus;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -17,22 +24,28 @@ import java.util.UUID;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ContentVersions contentVersions;
 
     @Override
-    public List<Category> listCategories() {
-        return categoryRepository.findAllWithPosts();
+    @Cacheable(CacheConfig.CATEGORIES_CACHE)
+    public List<CategoryWithPostCount> listCategories() {
+        return categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES_CACHE, allEntries = true)
     public Category createCategory(Category category) {
         if (categoryRepository.existsByNameIgnoreCase(category.getName())) {
             throw new IllegalArgumentException("Category already exists with name: " + category.getName());
         }
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        contentVersions.changed(ContentVersions.Collection.CATEGORIES);
+        return savedCategory;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES_CACHE, allEntries = true)
     public void deleteCategory(UUID id) {
         Optional<Category> categoryToDelete = categoryRepository.findById(id);
         if (categoryToDelete.isPresent()) {
@@ -40,6 +53,7 @@ public class CategoryServiceImpl implements CategoryService {
                 throw new IllegalStateException("Category has posts associated with it");
             }
             categoryRepository.deleteById(id);
+            contentVersions.changed(ContentVersions.Collection.CATEGORIES);
         }
     }
 
@@ -48,4 +62,10 @@ public class CategoryServiceImpl implements CategoryService {
         return categoryRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Category not found with id " + id));
     }
+
+    // Unknown ids are skipped; callers compare the result with what they asked for
+    @Override
+    public List<Category> getCategoriesByIds(Set<UUID> ids) {
+        return categoryRepository.findAllById(ids);
+    }
 }
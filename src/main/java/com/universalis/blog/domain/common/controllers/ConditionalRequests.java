@@ -0,0 +1,77 @@
+package com.universalis.blog.domain.common.controllers;
+
+import com.universalis.blog.domain.common.services.ContentVersions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Answers conditional GETs (If-None-Match / If-Modified-Since) for public read endpoints
+ * before any content is loaded, and supplies the Cache-Control policy for their responses.
+ */
+@Component
+public class ConditionalRequests {
+
+    private final ContentVersions contentVersions;
+    private final CacheControl cacheControl;
+    private final CacheControl alwaysRevalidated = CacheControl.noCache().cachePublic();
+
+    public ConditionalRequests(ContentVersions contentVersions,
+                               @Value("${http.cache.max-age:PT1M}") Duration maxAge) {
+        this.contentVersions = contentVersions;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+    }
+
+    /**
+     * Sets the validators of a collection on the response and checks them against the request.
+     *
+     * @return true if the client copy is current and a 304 should be returned
+     */
+    public boolean checkNotModified(WebRequest request, ContentVersions.Collection collection) {
+        return request.checkNotModified(contentVersions.eTag(collection), contentVersions.lastModified(collection));
+    }
+
+    /**
+     * Sets the validators of a single resource on the response and checks them against the request. The ETag is
+     * weak, as the representation may carry live values (e.g. a view count) that do not change the validators.
+     *
+     * @return true if the client copy is current and a 304 should be returned
+     */
+    public boolean checkNotModified(WebRequest request, UUID id, LocalDateTime updatedAt) {
+        long updatedAtMicros = ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updatedAt);
+        long lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return request.checkNotModified("W/\"" + id + "-" + updatedAtMicros + "\"", lastModified);
+    }
+
+    public <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+    }
+
+    public <T> ResponseEntity<T> ok(T body) {
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body);
+    }
+
+    /**
+     * Same as {@link #notModified()}, for resources whose every read has to reach the application.
+     */
+    public <T> ResponseEntity<T> notModifiedAlwaysRevalidated() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(alwaysRevalidated).build();
+    }
+
+    /**
+     * Same as {@link #ok}, for resources whose every read has to reach the application: caches may store the
+     * response but revalidate it on each use, which is answered with a cheap 304.
+     */
+    public <T> ResponseEntity<T> okAlwaysRevalidated(T body) {
+        return ResponseEntity.ok().cacheControl(alwaysRevalidated).body(body);
+    }
+}
@@ -0,0 +1,69 @@
+package com.universalis.blog.domain.common.services;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Version counters for the public collections, used as validators for conditional GETs on listings.
+ * Versions live in memory: a restart starts a new epoch, so validators issued before it never match again.
+ */
+@Component
+public class ContentVersions {
+
+    public enum Collection {
+        POSTS, TAGS, CATEGORIES
+    }
+
+    private record Version(long number, Instant modifiedAt) {
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Collection, AtomicReference<Version>> versions = new EnumMap<>(Collection.class);
+
+    public ContentVersions() {
+        Instant now = Instant.now();
+        for (Collection collection : Collection.values()) {
+            versions.put(collection, new AtomicReference<>(new Version(0, now)));
+        }
+    }
+
+    /**
+     * Marks the collections as changed once the current transaction commits, so a concurrent read
+     * can never pair the new version with data from before the commit.
+     *
+     * @param collections Collections affected by the write
+     */
+    public void changed(Collection... collections) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(collections);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(collections);
+            }
+        });
+    }
+
+    public String eTag(Collection collection) {
+        return collection.name().toLowerCase() + "-" + epoch + "-" + versions.get(collection).get().number();
+    }
+
+    public long lastModified(Collection collection) {
+        return versions.get(collection).get().modifiedAt().toEpochMilli();
+    }
+
+    private void bump(Collection... collections) {
+        Instant now = Instant.now();
+        for (Collection collection : collections) {
+            versions.get(collection).updateAndGet(version -> new Version(version.number() + 1, now));
+        }
+    }
+}
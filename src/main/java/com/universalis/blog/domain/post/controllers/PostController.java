@@ -1,22 +1,45 @@
 package com.universalis.blog.domain.post.controllers;
 
+import com.universalis.blog.domain.common.controllers.ConditionalRequests;
+import com.universalis.blog.domain.common.services.ContentVersions;
 import com.universalis.blog.domain.post.dtos.CreatePostRequest;
 import com.universalis.blog.domain.post.dtos.UpdatePostRequest;
 import com.universalis.blog.domain.post.dtos.CreatePostRequestDTO;
 import com.universalis.blog.domain.post.dtos.PostDTO;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.PostImportReportDTO;
+import com.universalis.blog.domain.post.dtos.PostPageDTO;
+import com.universalis.blog.domain.post.dtos.PostSort;
+import com.universalis.blog.domain.post.dtos.PostSummaryDTO;
+import com.universalis.blog.domain.post.dtos.PostVersionView;
+import com.universalis.blog.domain.post.dtos.PostViewsDTO;
+import com.universalis.blog.domain.post.dtos.RelatedPostDTO;
+import com.universalis.blog.domain.post.dtos.TagMatchMode;
 import com.universalis.blog.domain.post.dtos.UpdatePostRequestDTO;
 import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
 import com.universalis.blog.domain.user.entities.User;
 import com.universalis.blog.domain.post.mappers.PostMapper;
+import com.universalis.blog.domain.post.services.PostExportService;
+import com.universalis.blog.domain.post.services.PostImportService;
 import com.universalis.blog.domain.post.services.PostService;
 import com.universalis.blog.domain.user.services.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -25,24 +48,103 @@ import java.util.UUID;
 public class PostController {
 
     private final PostService postService;
+    private final PostImportService postImportService;
+    private final PostExportService postExportService;
     private final PostMapper postMapper;
     private final UserService userService;
+    private final ConditionalRequests conditionalRequests;
 
     @GetMapping
-    public ResponseEntity<List<PostDTO>> getAllPosts(@RequestParam(required = false) UUID categoryId,
-                                                     @RequestParam(required = false) UUID tagId) {
-        List<Post> posts = postService.getAllPosts(categoryId, tagId);
-        List<PostDTO> postDTOs = posts.stream()
-                .map(postMapper::toDTO)
-                .toList();
-        return ResponseEntity.ok(postDTOs);
+    public ResponseEntity<PostPageDTO> getAllPosts(@RequestParam(required = false) UUID categoryId,
+                                                   @RequestParam(required = false) UUID tagId,
+                                                   @RequestParam(required = false) Set<UUID> tagIds,
+                                                   @RequestParam(defaultValue = "any") String mode,
+                                                   @RequestParam(required = false) UUID authorId,
+                                                   @RequestParam(required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                   @RequestParam(required = false)
+                                                   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                   @RequestParam(defaultValue = "newest") String sort,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "20") int size,
+                                                   WebRequest request) {
+        if (conditionalRequests.checkNotModified(request, ContentVersions.Collection.POSTS)) {
+            return conditionalRequests.notModified();
+        }
+        Set<UUID> filterTagIds = new HashSet<>();
+        if (tagIds != null) {
+            filterTagIds.addAll(tagIds);
+        }
+        if (tagId != null) {
+            filterTagIds.add(tagId);
+        }
+        PostFilter filter = PostFilter.builder()
+                .categoryId(categoryId)
+                .tagIds(filterTagIds)
+                .tagMatchMode(TagMatchMode.from(mode))
+                .authorId(authorId)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .sort(PostSort.from(sort))
+                .build();
+        PostPageDTO postPage = postService.getAllPosts(filter, cursor, size);
+        return conditionalRequests.ok(postPage);
+    }
+
+    @GetMapping(path = "/trending")
+    public ResponseEntity<List<PostSummaryDTO>> getTrendingPosts(@RequestParam(defaultValue = "10") int size) {
+        // Ranked from memory; shared caches may serve it for the usual max-age
+        return conditionalRequests.ok(postService.getTrendingPosts(size));
+    }
+
+    @GetMapping(path = "/search")
+    public ResponseEntity<List<PostSummaryDTO>> searchPosts(@RequestParam("q") String query,
+                                                            @RequestParam(defaultValue = "20") int size,
+                                                            WebRequest request) {
+        if (conditionalRequests.checkNotModified(request, ContentVersions.Collection.POSTS)) {
+            return conditionalRequests.notModified();
+        }
+        List<PostSummaryDTO> results = postService.searchPosts(query, size);
+        return conditionalRequests.ok(results);
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        StreamingResponseBody body = postExportService::exportPosts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping(path = "/{id}")
-    public ResponseEntity<PostDTO> getPost(@PathVariable UUID id) {
-        Post post = postService.getPost(id);
-        PostDTO postDTO = postMapper.toDTO(post);
-        return ResponseEntity.ok(postDTO);
+    public ResponseEntity<PostDTO> getPost(@PathVariable UUID id, WebRequest request) {
+        PostVersionView version = postService.getPostVersion(id);
+        if (version.getStatus() != PostStatus.PUBLISHED) {
+            // Drafts are reachable by id but are neither counted nor cached
+            PostDTO draftDTO = postMapper.toDTO(postService.getPost(id));
+            draftDTO.setViewCount(postService.getViewCount(id));
+            return ResponseEntity.ok(draftDTO);
+        }
+        // Caches revalidate every read of a published post, so each one, 304 or not, is counted here
+        long viewCount = postService.recordView(id);
+        if (conditionalRequests.checkNotModified(request, id, version.getUpdatedAt())) {
+            return conditionalRequests.notModifiedAlwaysRevalidated();
+        }
+        PostDTO postDTO = postMapper.toDTO(postService.getPost(id));
+        postDTO.setViewCount(viewCount);
+        return conditionalRequests.okAlwaysRevalidated(postDTO);
+    }
+
+    // A 304 leaves the client with the viewCount of its stored copy; the live count is read here without counting
+    // a view, and is never cached (Spring Security sets no-store by default)
+    @GetMapping(path = "/{id}/views")
+    public ResponseEntity<PostViewsDTO> getViewCount(@PathVariable UUID id) {
+        return ResponseEntity.ok(new PostViewsDTO(postService.getViewCount(id)));
+    }
+
+    @GetMapping(path = "/{id}/related")
+    public ResponseEntity<List<RelatedPostDTO>> getRelatedPosts(@PathVariable UUID id) {
+        return ResponseEntity.ok(postService.getRelatedPosts(id));
     }
 
     @GetMapping(path = "/drafts")
@@ -65,6 +167,20 @@ public class PostController {
         return new ResponseEntity<>(createdPostDTO, HttpStatus.CREATED);
     }
 
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PostImportReportDTO> importPosts(@RequestBody List<CreatePostRequestDTO> posts,
+                                                           @RequestAttribute UUID userId) {
+        User loggedInUser = userService.getUserById(userId);
+        return ResponseEntity.ok(postImportService.importPosts(loggedInUser, posts));
+    }
+
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PostImportReportDTO> importPostsStream(InputStream ndjson,
+                                                                 @RequestAttribute UUID userId) throws IOException {
+        User loggedInUser = userService.getUserById(userId);
+        return ResponseEntity.ok(postImportService.importPosts(loggedInUser, ndjson));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<PostDTO> updatePost(@PathVariable UUID id,
                                               @Valid @RequestBody UpdatePostRequestDTO updatePostRequestDTO) {
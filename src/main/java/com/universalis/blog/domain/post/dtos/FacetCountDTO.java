@@ -0,0 +1,19 @@
+package com.universalis.blog.domain.post.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FacetCountDTO {
+
+    private UUID id;
+    private String name;
+    private Long postCount;
+}
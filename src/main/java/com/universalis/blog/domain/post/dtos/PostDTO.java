@@ -26,6 +26,9 @@ public class PostDTO {
     private CategoryDTO category;
     private Set<TagDTO> tags;
     private Integer readingTime;
+    private Integer wordCount;
+    // Set on single-post reads only
+    private Long viewCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private PostStatus status;
@@ -0,0 +1,35 @@
+package com.universalis.blog.domain.post.dtos;
+
+import com.universalis.blog.domain.post.entities.PostStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One line of the NDJSON export: a post with its associations flattened to ids and names.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostExportDTO {
+
+    private UUID id;
+    private String title;
+    private String content;
+    private PostStatus status;
+    private Integer readingTime;
+    private Integer wordCount;
+    private UUID authorId;
+    private String authorName;
+    private UUID categoryId;
+    private String categoryName;
+    private Set<String> tagNames;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
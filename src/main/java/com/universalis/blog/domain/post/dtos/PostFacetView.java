@@ -0,0 +1,15 @@
+package com.universalis.blog.domain.post.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Listing position, category and author of a post, used to build the in-memory facet index.
+ */
+public interface PostFacetView {
+
+    UUID getId();
+    LocalDateTime getCreatedAt();
+    UUID getCategoryId();
+    UUID getAuthorId();
+}
@@ -0,0 +1,32 @@
+package com.universalis.blog.domain.post.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Criteria of a published post listing. Every criterion is optional and they all combine with AND;
+ * the creation time range includes {@code createdFrom} and excludes {@code createdTo}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostFilter {
+
+    private UUID categoryId;
+    @Builder.Default
+    private Set<UUID> tagIds = Set.of();
+    @Builder.Default
+    private TagMatchMode tagMatchMode = TagMatchMode.ANY;
+    private UUID authorId;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    @Builder.Default
+    private PostSort sort = PostSort.NEWEST;
+}
@@ -0,0 +1,20 @@
+package com.universalis.blog.domain.post.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostImportReportDTO {
+
+    private int imported;
+    private int failed;
+    // One entry per item, in input order
+    private List<PostImportResultDTO> results;
+}
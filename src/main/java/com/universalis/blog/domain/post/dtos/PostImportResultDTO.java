@@ -0,0 +1,22 @@
+package com.universalis.blog.domain.post.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one imported item: the id of the created post, or why it was rejected.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostImportResultDTO {
+
+    private int index;
+    private UUID id;
+    private String error;
+}
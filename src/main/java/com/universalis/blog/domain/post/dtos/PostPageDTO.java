@@ -0,0 +1,21 @@
+package com.universalis.blog.domain.post.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostPageDTO {
+
+    private List<PostSummaryDTO> items;
+    private String nextCursor;
+    // Only on the first page: tag counts within the current filter, category counts ignoring the category filter
+    private List<FacetCountDTO> tagFacets;
+    private List<FacetCountDTO> categoryFacets;
+}
@@ -0,0 +1,13 @@
+package com.universalis.blog.domain.post.dtos;
+
+import java.util.UUID;
+
+/**
+ * Fields of a post fed into the search index when it is rebuilt.
+ */
+public interface PostSearchView {
+
+    UUID getId();
+    String getTitle();
+    String getContent();
+}
@@ -0,0 +1,17 @@
+package com.universalis.blog.domain.post.dtos;
+
+/**
+ * Order of post listings by creation time.
+ */
+public enum PostSort {
+    NEWEST, OLDEST;
+
+    public static PostSort from(String value) {
+        for (PostSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Sort must be 'newest' or 'oldest'");
+    }
+}
@@ -0,0 +1,26 @@
+package com.universalis.blog.domain.post.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostSummaryDTO {
+
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private Integer readingTime;
+    private String authorName;
+    private String categoryName;
+    private Set<String> tagNames;
+    private LocalDateTime createdAt;
+}
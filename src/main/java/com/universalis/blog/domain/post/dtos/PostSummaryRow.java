@@ -0,0 +1,23 @@
+package com.universalis.blog.domain.post.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * {@link PostSummaryView} constructed by criteria queries, which cannot return interface projections.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummaryRow implements PostSummaryView {
+
+    private UUID id;
+    private String title;
+    private String excerpt;
+    private Integer readingTime;
+    private String authorName;
+    private String categoryName;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.universalis.blog.domain.post.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Listing row read straight from the posts, users and categories tables,
+ * so the post body (post_bodies) is never read for listings.
+ */
+public interface PostSummaryView {
+
+    UUID getId();
+    String getTitle();
+    String getExcerpt();
+    Integer getReadingTime();
+    String getAuthorName();
+    String getCategoryName();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,9 @@
+package com.universalis.blog.domain.post.dtos;
+
+import java.util.UUID;
+
+public interface PostTagNameView {
+
+    UUID getPostId();
+    String getTagName();
+}
@@ -0,0 +1,11 @@
+package com.universalis.blog.domain.post.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface PostTitleView {
+
+    UUID getId();
+    String getTitle();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,14 @@
+package com.universalis.blog.domain.post.dtos;
+
+import com.universalis.blog.domain.post.entities.PostStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validator columns of a single post, read without its content to answer conditional GETs.
+ */
+public interface PostVersionView {
+
+    LocalDateTime getUpdatedAt();
+    PostStatus getStatus();
+}
@@ -0,0 +1,17 @@
+package com.universalis.blog.domain.post.dtos;
+
+/**
+ * How a listing filtered by several tags matches posts: carrying every tag or at least one of them.
+ */
+public enum TagMatchMode {
+    ALL, ANY;
+
+    public static TagMatchMode from(String value) {
+        for (TagMatchMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Tag match mode must be 'all' or 'any'");
+    }
+}
@@ -5,15 +5,20 @@ import com.universalis.blog.domain.tag.entities.Tag;
 import com.universalis.blog.domain.user.entities.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_status_created_at", columnList = "status, created_at DESC, id DESC")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -21,6 +26,8 @@ import java.util.UUID;
 @Builder
 public class Post {
 
+    public static final int EXCERPT_LENGTH = 200;
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -28,8 +35,14 @@ public class Post {
     @Column(nullable = false)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    // The body lives in post_bodies so loading posts for updates, deletes or ownership checks does not read it
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true, optional = false)
+    @JoinColumn(name = "body_id", unique = true)
+    private PostBody body;
+
+    // First characters of the body, kept on the posts row for listings
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
@@ -38,6 +51,13 @@ public class Post {
     @Column(nullable = false)
     private Integer readingTime;
 
+    // Stored with readingTime so neither has to be derived from the content on read; rows created before
+    // the column existed default to 0 until their next update.
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer wordCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
@@ -47,6 +67,7 @@ public class Post {
     private Category category;
 
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(name = "post_tags",
             joinColumns = @JoinColumn(name = "post_id"),
             inverseJoinColumns = @JoinColumn(name = "tag_id")
@@ -63,23 +84,64 @@ public class Post {
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) return false;
         Post post = (Post) o;
-        return Objects.equals(id, post.id) && Objects.equals(title, post.title) && Objects.equals(content, post.content) && status == post.status && Objects.equals(readingTime, post.readingTime) && Objects.equals(createdAt, post.createdAt) && Objects.equals(updatedAt, post.updatedAt);
+        return Objects.equals(id, post.id) && Objects.equals(title, post.title) && status == post.status && Objects.equals(readingTime, post.readingTime) && Objects.equals(createdAt, post.createdAt) && Objects.equals(updatedAt, post.updatedAt);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, title, content, status, readingTime, createdAt, updatedAt);
+        return Objects.hash(id, title, status, readingTime, createdAt, updatedAt);
+    }
+
+    /**
+     * @return The full body; loads it from post_bodies unless it was fetched with the post
+     */
+    public String getContent() {
+        return body == null ? null : body.getContent();
+    }
+
+    public void setContent(String content) {
+        if (body == null) {
+            body = new PostBody();
+        } else if (!Objects.equals(body.getContent(), content)) {
+            // An edit past the excerpt changes only post_bodies, leaving the posts row clean and @PreUpdate unfired;
+            // updatedAt backs the post's ETag and Last-Modified, so it has to move with the body.
+            updatedAt = now();
+        }
+        body.setContent(content);
+        excerpt = excerptOf(content);
     }
 
+    static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        int codePoints = content.codePointCount(0, content.length());
+        return content.substring(0, content.offsetByCodePoints(0, Math.min(EXCERPT_LENGTH, codePoints)));
+    }
+
+    public static class PostBuilder {
+
+        public PostBuilder content(String content) {
+            this.body = PostBody.builder().content(content).build();
+            this.excerpt = excerptOf(content);
+            return this;
+        }
+    }
+
+    // Truncated to what the database stores, so a cursor built from an in-memory post matches its persisted row.
     @PrePersist
     protected void onCreate() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = now();
         this.createdAt = now;
         this.updatedAt = now;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = now();
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
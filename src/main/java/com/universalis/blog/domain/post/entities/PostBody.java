@@ -0,0 +1,29 @@
+package com.universalis.blog.domain.post.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.Length;
+
+import java.util.UUID;
+
+/**
+ * Full text of a post, stored apart from the posts row and loaded only when the whole post is requested.
+ */
+@Entity
+@Table(name = "post_bodies")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PostBody {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // Binary (bytea): a codec marker followed by UTF-8 or Deflate data, see PostBodyCodec
+    @Convert(converter = PostBodyCodec.class)
+    @Column(nullable = false, length = Length.LONG32)
+    private String content;
+}
@@ -0,0 +1,116 @@
+package com.universalis.blog.domain.post.entities;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores post bodies as UTF-8 bytes behind a one-byte codec marker, Deflate-compressing bodies of at least
+ * {@code posts.body-compression.min-size} bytes when that makes them smaller. Every stored value says how it was
+ * written, so the threshold or the switch can change without rewriting existing rows.
+ * <p>
+ * Created by Hibernate through Spring, which injects the settings; instantiated directly it uses the defaults.
+ */
+@Converter
+public class PostBodyCodec implements AttributeConverter<String, byte[]> {
+
+    static final byte RAW = 0;
+    // Followed by the uncompressed length (4 bytes) and raw Deflate data
+    static final byte DEFLATE = 1;
+    private static final int DEFLATE_HEADER_LENGTH = 1 + Integer.BYTES;
+
+    @Value("${posts.body-compression.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${posts.body-compression.min-size:2048}")
+    private int minSize = 2048;
+
+    public PostBodyCodec() {
+    }
+
+    PostBodyCodec(boolean enabled, int minSize) {
+        this.enabled = enabled;
+        this.minSize = minSize;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        if (content == null) {
+            return null;
+        }
+        byte[] utf8 = content.getBytes(StandardCharsets.UTF_8);
+        if (enabled && utf8.length >= minSize) {
+            byte[] compressed = deflate(utf8);
+            // Kept only if smaller than the raw form with its marker
+            if (compressed.length < utf8.length + 1) {
+                return compressed;
+            }
+        }
+        byte[] stored = new byte[utf8.length + 1];
+        stored[0] = RAW;
+        System.arraycopy(utf8, 0, stored, 1, utf8.length);
+        return stored;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        return switch (stored[0]) {
+            case RAW -> new String(stored, 1, stored.length - 1, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(stored), StandardCharsets.UTF_8);
+            default -> throw new IllegalStateException("Unknown post body codec " + stored[0]);
+        };
+    }
+
+    private static byte[] deflate(byte[] utf8) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(utf8);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(utf8.length / 2 + DEFLATE_HEADER_LENGTH);
+            output.write(DEFLATE);
+            output.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(utf8.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored) {
+        int length = ByteBuffer.wrap(stored, 1, Integer.BYTES).getInt();
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(stored, DEFLATE_HEADER_LENGTH, stored.length - DEFLATE_HEADER_LENGTH);
+            byte[] utf8 = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int inflated = inflater.inflate(utf8, read, length - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != length) {
+                throw new IllegalStateException("Truncated post body: expected " + length + " bytes, got " + read);
+            }
+            return utf8;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt post body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
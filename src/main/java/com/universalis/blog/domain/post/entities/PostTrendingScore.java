@@ -0,0 +1,30 @@
+package com.universalis.blog.domain.post.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Snapshot row of a post's trending score, decayed to {@code scoredAt}. Written in bulk by {@code PostTrendingIndex}.
+ */
+@Entity
+@Table(name = "post_trending_scores")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PostTrendingScore {
+
+    @Id
+    @Column(name = "post_id")
+    private UUID postId;
+
+    @Column(nullable = false)
+    private double score;
+
+    @Column(name = "scored_at", nullable = false)
+    private Instant scoredAt;
+}
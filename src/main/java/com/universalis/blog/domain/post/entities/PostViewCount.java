@@ -0,0 +1,27 @@
+package com.universalis.blog.domain.post.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Flushed view count of a post. Written by batched upserts from {@code PostViewCounter}, never through JPA,
+ * and kept apart from posts so counting views does not lock or version post rows.
+ */
+@Entity
+@Table(name = "post_view_counts")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class PostViewCount {
+
+    @Id
+    @Column(name = "post_id")
+    private UUID postId;
+
+    @Column(nullable = false)
+    private long views;
+}
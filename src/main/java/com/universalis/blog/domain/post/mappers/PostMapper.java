@@ -4,6 +4,9 @@ import com.universalis.blog.domain.post.dtos.CreatePostRequest;
 import com.universalis.blog.domain.post.dtos.UpdatePostRequest;
 import com.universalis.blog.domain.post.dtos.CreatePostRequestDTO;
 import com.universalis.blog.domain.post.dtos.PostDTO;
+import com.universalis.blog.domain.post.dtos.PostExportDTO;
+import com.universalis.blog.domain.post.dtos.PostSummaryDTO;
+import com.universalis.blog.domain.post.dtos.PostSummaryView;
 import com.universalis.blog.domain.post.dtos.UpdatePostRequestDTO;
 import com.universalis.blog.domain.post.entities.Post;
 import jakarta.validation.Valid;
@@ -19,6 +22,16 @@ public interface PostMapper {
     @Mapping(target = "tags", source = "tags")
     PostDTO toDTO(Post post);
 
+    @Mapping(target = "authorId", source = "author.id")
+    @Mapping(target = "authorName", source = "author.name")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "categoryName", source = "category.name")
+    @Mapping(target = "tagNames", ignore = true)
+    PostExportDTO toExportDTO(Post post);
+
+    @Mapping(target = "tagNames", ignore = true)
+    PostSummaryDTO toSummaryDTO(PostSummaryView postSummaryView);
+
     CreatePostRequest toCreatePostRequest(@Valid CreatePostRequestDTO dto);
     UpdatePostRequest toUpdatePostRequest(@Valid UpdatePostRequestDTO dto);
 }
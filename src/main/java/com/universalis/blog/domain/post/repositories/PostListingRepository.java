@@ -0,0 +1,23 @@
+package com.universalis.blog.domain.post.repositories;
+
+import com.universalis.blog.domain.post.dtos.PostSummaryView;
+import com.universalis.blog.domain.post.entities.Post;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Listing queries composed from a {@link Specification}, see {@link PostSpecifications}.
+ */
+public interface PostListingRepository {
+
+    /**
+     * @param specification Posts to list
+     * @param sort          Order of the rows
+     * @param limit         Maximum number of rows
+     * @return Summary rows of the matching posts, read without post_bodies
+     */
+    List<PostSummaryView> findSummaries(Specification<Post> specification, Sort sort, Limit limit);
+}
@@ -0,0 +1,46 @@
+package com.universalis.blog.domain.post.repositories;
+
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.post.dtos.PostSummaryRow;
+import com.universalis.blog.domain.post.dtos.PostSummaryView;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.user.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+class PostListingRepositoryImpl implements PostListingRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Same columns as PostRepository.SUMMARY_SELECT
+    @Override
+    public List<PostSummaryView> findSummaries(Specification<Post> specification, Sort sort, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<PostSummaryRow> query = cb.createQuery(PostSummaryRow.class);
+        Root<Post> post = query.from(Post.class);
+        Join<Post, User> author = post.join("author");
+        Join<Post, Category> category = post.join("category");
+        query.select(cb.construct(PostSummaryRow.class,
+                        post.get("id"), post.get("title"), post.get("excerpt"), post.get("readingTime"),
+                        author.get("name"), category.get("name"), post.get("createdAt")))
+                .where(specification.toPredicate(post, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, post, cb));
+        TypedQuery<PostSummaryRow> typedQuery = entityManager.createQuery(query);
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+        return List.copyOf(typedQuery.getResultList());
+    }
+}
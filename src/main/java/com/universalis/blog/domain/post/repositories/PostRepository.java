@@ -1,22 +1,84 @@
 package com.universalis.blog.domain.post.repositories;
 
+import com.universalis.blog.domain.post.dtos.PostFacetView;
+import com.universalis.blog.domain.post.dtos.PostSearchView;
+import com.universalis.blog.domain.post.dtos.PostSummaryView;
+import com.universalis.blog.domain.post.dtos.PostTagIdView;
+import com.universalis.blog.domain.post.dtos.PostTitleView;
+import com.universalis.blog.domain.post.dtos.PostTagNameView;
+import com.universalis.blog.domain.post.dtos.PostVersionView;
 import com.universalis.blog.domain.post.entities.PostStatus;
-import com.universalis.blog.domain.category.entities.Category;
 import com.universalis.blog.domain.post.entities.Post;
-import com.universalis.blog.domain.tag.entities.Tag;
 import com.universalis.blog.domain.user.entities.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, UUID> {
+public interface PostRepository extends JpaRepository<Post, UUID>, PostListingRepository {
 
-    List<Post> findAllByStatusAndCategoryAndTagsContaining(PostStatus status, Category category, Tag tag);
-    List<Post> findAllByStatusAndCategory(PostStatus status, Category category);
-    List<Post> findAllByStatusAndTagsContaining(PostStatus status, Tag tag);
-    List<Post> findAllByStatus(PostStatus status);
+    // Listings read the excerpt stored on the posts row; post_bodies is not touched.
+    String SUMMARY_SELECT = """
+            SELECT p.id AS id, p.title AS title, p.excerpt AS excerpt, p.readingTime AS readingTime,
+                   a.name AS authorName, c.name AS categoryName, p.createdAt AS createdAt
+            FROM Post p JOIN p.author a JOIN p.category c
+            """;
+
+    @Query(SUMMARY_SELECT + "WHERE p.status = :status AND p.id IN :ids")
+    List<PostSummaryView> findSummariesByIds(@Param("status") PostStatus status,
+                                             @Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p.id AS postId, t.name AS tagName FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+    List<PostTagNameView> findTagNamesByPostIds(@Param("postIds") Collection<UUID> postIds);
+
+    // Author, category and body are fetched in the same select; tags are batch-loaded (see Post.tags),
+    // so mapping a list to PostDTOs costs a fixed number of statements instead of 1 + 3N.
+    @EntityGraph(attributePaths = {"author", "category", "body"})
     List<Post> findAllByAuthorAndStatus(User author, PostStatus status);
+
+    @EntityGraph(attributePaths = {"author", "category", "tags", "body"})
+    Optional<Post> findWithDetailsById(UUID id);
+
+    @Query("SELECT p.updatedAt AS updatedAt, p.status AS status FROM Post p WHERE p.id = :id")
+    Optional<PostVersionView> findVersionById(@Param("id") UUID id);
+
+    // Search index rebuild reads posts in id order, one batch after another
+    @Query("""
+            SELECT p.id AS id, p.title AS title, b.content AS content FROM Post p JOIN p.body b
+            WHERE p.status = :status AND (:afterId IS NULL OR p.id > :afterId)
+            ORDER BY p.id""")
+    List<PostSearchView> findSearchDocuments(@Param("status") PostStatus status,
+                                             @Param("afterId") UUID afterId,
+                                             Limit limit);
+
+    @Query("""
+            SELECT p.id AS id, p.createdAt AS createdAt, p.category.id AS categoryId, p.author.id AS authorId
+            FROM Post p WHERE p.status = :status""")
+    List<PostFacetView> findFacetsByStatus(@Param("status") PostStatus status);
+
+    @Query("SELECT p.id AS postId, t.id AS tagId FROM Post p JOIN p.tags t WHERE p.status = :status")
+    List<PostTagIdView> findTagIdsByStatus(@Param("status") PostStatus status);
+
+    @Query("SELECT p.id AS id, p.title AS title, p.createdAt AS createdAt FROM Post p WHERE p.status = :status")
+    List<PostTitleView> findTitlesByStatus(@Param("status") PostStatus status);
+
+    // Read through a server-side cursor in fetch-size chunks; the caller clears the persistence context as it goes
+    @Query("SELECT p FROM Post p JOIN FETCH p.author JOIN FETCH p.category JOIN FETCH p.body WHERE p.status = :status ORDER BY p.createdAt, p.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Post> streamAllByStatus(@Param("status") PostStatus status);
 }
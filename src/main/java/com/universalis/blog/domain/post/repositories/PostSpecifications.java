@@ -0,0 +1,102 @@
+package com.universalis.blog.domain.post.repositories;
+
+import com.universalis.blog.domain.post.dtos.PostCursor;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.PostSort;
+import com.universalis.blog.domain.post.dtos.TagMatchMode;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.tag.entities.Tag;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published post listings as one {@link Specification}. Every criterion of a {@link PostFilter} is matched by id,
+ * so neither categories nor tags are loaded, and pages continue after a cursor with a keyset predicate on
+ * (createdAt, id), which the database answers from idx_posts_status_created_at instead of skipping an offset.
+ */
+public final class PostSpecifications {
+
+    private PostSpecifications() {
+    }
+
+    /**
+     * @param filter Criteria the posts must meet
+     * @param after  Cursor to continue after in the filter's sort order, or null for the first page
+     * @return Published posts matching the filter, after the cursor
+     */
+    public static Specification<Post> listing(PostFilter filter, PostCursor after) {
+        return (post, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(post.get("status"), PostStatus.PUBLISHED));
+            if (filter.getCategoryId() != null) {
+                predicates.add(cb.equal(post.get("category").get("id"), filter.getCategoryId()));
+            }
+            if (filter.getAuthorId() != null) {
+                predicates.add(cb.equal(post.get("author").get("id"), filter.getAuthorId()));
+            }
+            Set<UUID> tagIds = filter.getTagIds();
+            if (!tagIds.isEmpty()) {
+                if (filter.getTagMatchMode() == TagMatchMode.ALL) {
+                    tagIds.forEach(tagId -> predicates.add(taggedWithAny(post, query, cb, Set.of(tagId))));
+                } else {
+                    predicates.add(taggedWithAny(post, query, cb, tagIds));
+                }
+            }
+            Path<LocalDateTime> createdAt = post.get("createdAt");
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(createdAt, filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(createdAt, filter.getCreatedTo()));
+            }
+            if (after != null) {
+                predicates.add(after(post, cb, after, filter.getSort()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * @return Listing order for the sort, with the id breaking ties between posts created at the same time
+     */
+    public static Sort listingOrder(PostSort sort) {
+        Sort.Direction direction = sort == PostSort.OLDEST ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, "createdAt", "id");
+    }
+
+    private static Predicate taggedWithAny(Root<Post> post, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                           Collection<UUID> tagIds) {
+        Subquery<UUID> tagged = query.subquery(UUID.class);
+        Root<Post> taggedPost = tagged.from(Post.class);
+        Join<Post, Tag> tag = taggedPost.join("tags");
+        tagged.select(taggedPost.get("id"))
+                .where(cb.equal(taggedPost.get("id"), post.get("id")), tag.get("id").in(tagIds));
+        return cb.exists(tagged);
+    }
+
+    private static Predicate after(Root<Post> post, CriteriaBuilder cb, PostCursor cursor, PostSort sort) {
+        Path<LocalDateTime> createdAt = post.get("createdAt");
+        Path<UUID> id = post.get("id");
+        if (sort == PostSort.OLDEST) {
+            return cb.or(cb.greaterThan(createdAt, cursor.getCreatedAt()),
+                    cb.and(cb.equal(createdAt, cursor.getCreatedAt()), cb.greaterThan(id, cursor.getId())));
+        }
+        return cb.or(cb.lessThan(createdAt, cursor.getCreatedAt()),
+                cb.and(cb.equal(createdAt, cursor.getCreatedAt()), cb.lessThan(id, cursor.getId())));
+    }
+}
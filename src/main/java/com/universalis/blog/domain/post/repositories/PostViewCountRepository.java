@@ -0,0 +1,11 @@
+package com.universalis.blog.domain.post.repositories;
+
+import com.universalis.blog.domain.post.entities.PostViewCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface PostViewCountRepository extends JpaRepository<PostViewCount, UUID> {
+}
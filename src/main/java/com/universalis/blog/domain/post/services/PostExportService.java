@@ -0,0 +1,9 @@
+package com.universalis.blog.domain.post.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PostExportService {
+
+    void exportPosts(OutputStream out) throws IOException;
+}
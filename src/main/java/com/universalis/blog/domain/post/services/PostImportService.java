@@ -0,0 +1,15 @@
+package com.universalis.blog.domain.post.services;
+
+import com.universalis.blog.domain.post.dtos.CreatePostRequestDTO;
+import com.universalis.blog.domain.post.dtos.PostImportReportDTO;
+import com.universalis.blog.domain.user.entities.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface PostImportService {
+
+    PostImportReportDTO importPosts(User author, List<CreatePostRequestDTO> posts);
+    PostImportReportDTO importPosts(User author, InputStream ndjson) throws IOException;
+}
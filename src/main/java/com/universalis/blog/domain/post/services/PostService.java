@@ -1,6 +1,11 @@
 package com.universalis.blog.domain.post.services;
 
 import com.universalis.blog.domain.post.dtos.CreatePostRequest;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.PostPageDTO;
+import com.universalis.blog.domain.post.dtos.PostSummaryDTO;
+import com.universalis.blog.domain.post.dtos.PostVersionView;
+import com.universalis.blog.domain.post.dtos.RelatedPostDTO;
 import com.universalis.blog.domain.post.dtos.UpdatePostRequest;
 import com.universalis.blog.domain.post.entities.Post;
 import com.universalis.blog.domain.user.entities.User;
@@ -10,8 +15,14 @@ import java.util.UUID;
 
 public interface PostService {
 
-    List<Post> getAllPosts(UUID categoryId, UUID tagId);
+    PostPageDTO getAllPosts(PostFilter filter, String cursor, int size);
+    List<PostSummaryDTO> searchPosts(String query, int size);
+    List<PostSummaryDTO> getTrendingPosts(int size);
     Post getPost(UUID id);
+    PostVersionView getPostVersion(UUID id);
+    long recordView(UUID id);
+    long getViewCount(UUID id);
+    List<RelatedPostDTO> getRelatedPosts(UUID id);
     List<Post> getDraftPosts(User user);
     Post createPost(User user, CreatePostRequest createPostRequest);
     Post updatePost(UUID id, UpdatePostRequest updatePostRequest);
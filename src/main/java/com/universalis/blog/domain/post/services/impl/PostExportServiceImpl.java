@@ -0,0 +1,88 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.universalis.blog.domain.post.dtos.PostExportDTO;
+import com.universalis.blog.domain.post.dtos.PostTagNameView;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.mappers.PostMapper;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.post.services.PostExportService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes every published post as one JSON object per line, oldest first. Rows are read through a database cursor
+ * and handled in chunks: tag names are fetched once per chunk, the chunk is flushed to the client
+ * and the persistence context is cleared, so heap use does not grow with the number of posts.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostExportServiceImpl implements PostExportService {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportPosts(OutputStream out) throws IOException {
+        SequenceWriter writer = objectMapper.writerFor(PostExportDTO.class)
+                .withRootValueSeparator("\n")
+                .writeValues(out);
+        boolean empty;
+        try (Stream<Post> posts = postRepository.streamAllByStatus(PostStatus.PUBLISHED)) {
+            Iterator<Post> iterator = posts.iterator();
+            empty = !iterator.hasNext();
+            List<Post> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(chunk, writer);
+                    chunk.clear();
+                }
+            }
+            writeChunk(chunk, writer);
+        }
+        // The separator only goes between lines; closing the writer would also close the response stream
+        if (!empty) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private void writeChunk(List<Post> chunk, SequenceWriter writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<UUID> postIds = chunk.stream().map(Post::getId).toList();
+        Map<UUID, Set<String>> tagNamesByPostId = postRepository.findTagNamesByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagNameView::getPostId,
+                        Collectors.mapping(PostTagNameView::getTagName, Collectors.toCollection(TreeSet::new))));
+        for (Post post : chunk) {
+            PostExportDTO export = postMapper.toExportDTO(post);
+            export.setTagNames(tagNamesByPostId.getOrDefault(post.getId(), Set.of()));
+            writer.write(export);
+        }
+        writer.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,307 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.dtos.PostFacetView;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.PostTagIdView;
+import com.universalis.blog.domain.post.dtos.TagMatchMode;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.tag.entities.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Per-category, per-tag and per-author bitmaps over published posts, answering the facet counts of a listing
+ * without grouping over post_tags. Bit positions (ordinals) follow the listing order (createdAt, id), so a
+ * creation time range maps to an ordinal interval with a binary search.
+ * Built before the web server starts and kept current by post writes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostFacetIndex implements SmartInitializingSingleton {
+
+    // Same order as the database: createdAt, then id compared as unsigned bytes
+    private static final Comparator<Entry> LISTING_ORDER = Comparator.comparing(Entry::createdAt)
+            .thenComparing(Entry::id, PostFacetIndex::compareUuids);
+
+    private record Entry(UUID id, LocalDateTime createdAt, UUID categoryId, UUID authorId, Set<UUID> tagIds) {
+    }
+
+    public record FacetCounts(Map<UUID, Long> tags, Map<UUID, Long> categories) {
+    }
+
+    private final PostRepository postRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Ordinal -> entry; entries of removed posts stay in place (with their live bit cleared) to keep the order
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Map<UUID, BitSet> byCategory = new HashMap<>();
+    private final Map<UUID, BitSet> byTag = new HashMap<>();
+    private final Map<UUID, BitSet> byAuthor = new HashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        Map<UUID, Set<UUID>> tagIdsByPostId = postRepository.findTagIdsByStatus(PostStatus.PUBLISHED).stream()
+                .collect(Collectors.groupingBy(PostTagIdView::getPostId,
+                        Collectors.mapping(PostTagIdView::getTagId, Collectors.toSet())));
+        List<Entry> published = postRepository.findFacetsByStatus(PostStatus.PUBLISHED).stream()
+                .map(view -> new Entry(view.getId(), view.getCreatedAt(), view.getCategoryId(), view.getAuthorId(),
+                        tagIdsByPostId.getOrDefault(view.getId(), Set.of())))
+                .toList();
+        lock.writeLock().lock();
+        try {
+            reorder(published);
+            log.info("Facet index built with {} published posts", ordinals.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the post once the current transaction commits, or drops it from the index if it is not published.
+     *
+     * @param post Post that was created or updated
+     */
+    public void index(Post post) {
+        UUID id = post.getId();
+        if (post.getStatus() != PostStatus.PUBLISHED) {
+            remove(id);
+            return;
+        }
+        Set<UUID> tagIds = post.getTags().stream().map(Tag::getId).collect(Collectors.toUnmodifiableSet());
+        Entry entry = new Entry(id, post.getCreatedAt(), post.getCategory().getId(), post.getAuthor().getId(), tagIds);
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                put(entry);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Removes the post from the index once the current transaction commits.
+     *
+     * @param id Id of the post
+     */
+    public void remove(UUID id) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Counts posts per tag and per category for a filter. Tag counts cover the posts matching the whole filter;
+     * category counts ignore the category filter so the other categories stay selectable.
+     *
+     * @return Post counts by tag id and by category id, without zero counts
+     */
+    public FacetCounts count(PostFilter filter) {
+        UUID categoryId = filter.getCategoryId();
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(filter);
+            int from = filter.getCreatedFrom() == null ? 0 : createdBefore(filter.getCreatedFrom());
+            int to = filter.getCreatedTo() == null ? entries.size() : createdBefore(filter.getCreatedTo());
+            matches.clear(0, from);
+            matches.clear(to, Math.max(to, matches.length()));
+            Map<UUID, Long> categoryCounts = cardinalities(matches, byCategory);
+            if (categoryId != null) {
+                matches.and(byCategory.getOrDefault(categoryId, new BitSet()));
+            }
+            return new FacetCounts(cardinalities(matches, byTag), categoryCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Callers hold the read or write lock; counts the matches in each bitmap, leaving out bitmaps without any
+    private static Map<UUID, Long> cardinalities(BitSet matches, Map<UUID, BitSet> bitmaps) {
+        Map<UUID, Long> counts = new HashMap<>();
+        BitSet intersection = new BitSet(matches.length());
+        bitmaps.forEach((key, bitmap) -> {
+            if (!bitmap.intersects(matches)) {
+                return;
+            }
+            intersection.clear();
+            intersection.or(bitmap);
+            intersection.and(matches);
+            counts.put(key, (long) intersection.cardinality());
+        });
+        return counts;
+    }
+
+    // Callers hold the read or write lock; the result is a fresh bitmap of live posts matching the filter's
+    // author and tags, the category and creation time range are left to the caller
+    private BitSet match(PostFilter filter) {
+        BitSet matches = (BitSet) live.clone();
+        if (filter.getAuthorId() != null) {
+            matches.and(byAuthor.getOrDefault(filter.getAuthorId(), new BitSet()));
+        }
+        Set<UUID> tagIds = filter.getTagIds();
+        if (tagIds.isEmpty()) {
+            return matches;
+        }
+        if (filter.getTagMatchMode() == TagMatchMode.ALL) {
+            for (UUID tagId : tagIds) {
+                matches.and(byTag.getOrDefault(tagId, new BitSet()));
+            }
+        } else {
+            BitSet anyTag = new BitSet();
+            for (UUID tagId : tagIds) {
+                anyTag.or(byTag.getOrDefault(tagId, new BitSet()));
+            }
+            matches.and(anyTag);
+        }
+        return matches;
+    }
+
+    // Callers hold the write lock
+    private void put(Entry entry) {
+        Integer ordinal = ordinals.get(entry.id());
+        if (ordinal != null && entries.get(ordinal).createdAt().equals(entry.createdAt())) {
+            clearBits(ordinal, entries.get(ordinal));
+            entries.set(ordinal, entry);
+            setBits(ordinal, entry);
+            return;
+        }
+        delete(entry.id());
+        if (entries.isEmpty() || LISTING_ORDER.compare(entries.getLast(), entry) < 0) {
+            int newOrdinal = entries.size();
+            entries.add(entry);
+            ordinals.put(entry.id(), newOrdinal);
+            setBits(newOrdinal, entry);
+            return;
+        }
+        // Publishing an older draft lands in the middle of the order; renumber everything
+        List<Entry> published = new ArrayList<>(ordinals.size() + 1);
+        ordinals.values().forEach(existing -> published.add(entries.get(existing)));
+        published.add(entry);
+        reorder(published);
+    }
+
+    // Callers hold the write lock
+    private void delete(UUID id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        clearBits(ordinal, entries.get(ordinal));
+        if (entries.size() > 2 * ordinals.size() + 64) {
+            List<Entry> published = new ArrayList<>(ordinals.size());
+            ordinals.values().forEach(existing -> published.add(entries.get(existing)));
+            reorder(published);
+        }
+    }
+
+    // Callers hold the write lock
+    private void reorder(List<Entry> published) {
+        entries.clear();
+        ordinals.clear();
+        live.clear();
+        byCategory.clear();
+        byTag.clear();
+        byAuthor.clear();
+        published.stream().sorted(LISTING_ORDER).forEach(entry -> {
+            int ordinal = entries.size();
+            entries.add(entry);
+            ordinals.put(entry.id(), ordinal);
+            setBits(ordinal, entry);
+        });
+    }
+
+    private void setBits(int ordinal, Entry entry) {
+        live.set(ordinal);
+        byCategory.computeIfAbsent(entry.categoryId(), key -> new BitSet()).set(ordinal);
+        byAuthor.computeIfAbsent(entry.authorId(), key -> new BitSet()).set(ordinal);
+        entry.tagIds().forEach(tagId -> byTag.computeIfAbsent(tagId, key -> new BitSet()).set(ordinal));
+    }
+
+    private void clearBits(int ordinal, Entry entry) {
+        live.clear(ordinal);
+        clearBit(byCategory, entry.categoryId(), ordinal);
+        clearBit(byAuthor, entry.authorId(), ordinal);
+        entry.tagIds().forEach(tagId -> clearBit(byTag, tagId, ordinal));
+    }
+
+    private static void clearBit(Map<UUID, BitSet> bitmaps, UUID key, int ordinal) {
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.clear(ordinal);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    // Number of entries created strictly before the given time
+    private int createdBefore(LocalDateTime createdAt) {
+        return firstOrdinal(entry -> !entry.createdAt().isBefore(createdAt));
+    }
+
+    // Binary search for the first ordinal meeting a condition that holds for every ordinal after it
+    private int firstOrdinal(Predicate<Entry> condition) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (condition.test(entries.get(middle))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static int compareUuids(UUID first, UUID second) {
+        int result = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return result != 0 ? result
+                : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
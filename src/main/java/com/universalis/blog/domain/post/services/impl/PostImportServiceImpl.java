@@ -0,0 +1,258 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.universalis.blog.config.CacheConfig;
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.category.services.CategoryService;
+import com.universalis.blog.domain.common.services.ContentVersions;
+import com.universalis.blog.domain.post.dtos.CreatePostRequestDTO;
+import com.universalis.blog.domain.post.dtos.PostImportReportDTO;
+import com.universalis.blog.domain.post.dtos.PostImportResultDTO;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.post.services.PostImportService;
+import com.universalis.blog.domain.tag.entities.Tag;
+import com.universalis.blog.domain.tag.services.TagService;
+import com.universalis.blog.domain.user.entities.User;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates posts in batches: each batch resolves its categories and tags with one query each
+ * and is inserted in its own transaction, so Hibernate sends posts and post_tags rows as JDBC batches
+ * (see hibernate.jdbc.batch_size and hibernate.order_inserts). A failing batch does not undo earlier ones.
+ */
+@Service
+@Slf4j
+public class PostImportServiceImpl implements PostImportService {
+
+    static final int BATCH_SIZE = 500;
+
+    // An item read from the input: either a request to import or the reason it could not be read
+    private record Item(int index, CreatePostRequestDTO request, String error) {
+    }
+
+    private final PostRepository postRepository;
+    private final CategoryService categoryService;
+    private final TagService tagService;
+    private final ContentVersions contentVersions;
+    private final PostSearchIndex postSearchIndex;
+    private final PostFacetIndex postFacetIndex;
+    private final PostRelatedIndex postRelatedIndex;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader requestReader;
+
+    public PostImportServiceImpl(PostRepository postRepository,
+                                 CategoryService categoryService,
+                                 TagService tagService,
+                                 ContentVersions contentVersions,
+                                 PostSearchIndex postSearchIndex,
+                                 PostFacetIndex postFacetIndex,
+                                 PostRelatedIndex postRelatedIndex,
+                                 Validator validator,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper) {
+        this.postRepository = postRepository;
+        this.categoryService = categoryService;
+        this.tagService = tagService;
+        this.contentVersions = contentVersions;
+        this.postSearchIndex = postSearchIndex;
+        this.postFacetIndex = postFacetIndex;
+        this.postRelatedIndex = postRelatedIndex;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requestReader = objectMapper.readerFor(CreatePostRequestDTO.class);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.TAGS_CACHE, CacheConfig.CATEGORIES_CACHE}, allEntries = true)
+    public PostImportReportDTO importPosts(User author, List<CreatePostRequestDTO> posts) {
+        List<PostImportResultDTO> results = new ArrayList<>(posts.size());
+        List<Item> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < posts.size(); i++) {
+            CreatePostRequestDTO request = posts.get(i);
+            batch.add(request == null ? new Item(i, null, "Post is required") : new Item(i, request, null));
+            if (batch.size() == BATCH_SIZE) {
+                results.addAll(importBatch(author, batch));
+                batch.clear();
+            }
+        }
+        results.addAll(importBatch(author, batch));
+        return toReport(results);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = {CacheConfig.TAGS_CACHE, CacheConfig.CATEGORIES_CACHE}, allEntries = true)
+    public PostImportReportDTO importPosts(User author, InputStream ndjson) throws IOException {
+        List<PostImportResultDTO> results = new ArrayList<>();
+        List<Item> batch = new ArrayList<>(BATCH_SIZE);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        int index = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(readItem(index++, line));
+            if (batch.size() == BATCH_SIZE) {
+                results.addAll(importBatch(author, batch));
+                batch.clear();
+            }
+        }
+        results.addAll(importBatch(author, batch));
+        return toReport(results);
+    }
+
+    private Item readItem(int index, String line) {
+        try {
+            return new Item(index, requestReader.readValue(line), null);
+        } catch (JsonProcessingException e) {
+            return new Item(index, null, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private List<PostImportResultDTO> importBatch(User author, List<Item> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+        PostImportResultDTO[] results = new PostImportResultDTO[batch.size()];
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(author, batch, results));
+        } catch (RuntimeException e) {
+            log.warn("Post import batch starting at item {} failed", batch.getFirst().index(), e);
+            for (int i = 0; i < batch.size(); i++) {
+                if (results[i] == null || results[i].getError() == null) {
+                    results[i] = failure(batch.get(i).index(), "Batch failed: " + e.getMessage());
+                }
+            }
+        }
+        return List.of(results);
+    }
+
+    private void insertBatch(User author, List<Item> batch, PostImportResultDTO[] results) {
+        Set<UUID> categoryIds = new HashSet<>();
+        Set<UUID> tagIds = new HashSet<>();
+        for (Item item : batch) {
+            if (item.request() != null) {
+                if (item.request().getCategoryId() != null) {
+                    categoryIds.add(item.request().getCategoryId());
+                }
+                if (item.request().getTagIds() != null) {
+                    tagIds.addAll(item.request().getTagIds());
+                }
+            }
+        }
+        Map<UUID, Category> categories = categoryService.getCategoriesByIds(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<UUID, Tag> tags = tagService.getExistingTagsByIds(tagIds).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+        User authorReference = entityManager.getReference(User.class, author.getId());
+
+        List<Post> posts = new ArrayList<>(batch.size());
+        List<Integer> positions = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            Item item = batch.get(i);
+            String error = item.error() != null ? item.error() : validate(item.request(), categories, tags);
+            if (error != null) {
+                results[i] = failure(item.index(), error);
+                continue;
+            }
+            posts.add(toPost(item.request(), authorReference, categories, tags));
+            positions.add(i);
+        }
+        if (posts.isEmpty()) {
+            return;
+        }
+
+        postRepository.saveAll(posts);
+        entityManager.flush();
+        for (int i = 0; i < posts.size(); i++) {
+            Post post = posts.get(i);
+            int position = positions.get(i);
+            results[position] = PostImportResultDTO.builder()
+                    .index(batch.get(position).index())
+                    .id(post.getId())
+                    .build();
+            postSearchIndex.index(post);
+            postFacetIndex.index(post);
+            postRelatedIndex.index(post);
+        }
+        contentVersions.changed(ContentVersions.Collection.POSTS, ContentVersions.Collection.TAGS,
+                ContentVersions.Collection.CATEGORIES);
+        // Imported posts are not read again; keep the persistence context from growing across the batch
+        entityManager.clear();
+    }
+
+    private String validate(CreatePostRequestDTO request, Map<UUID, Category> categories, Map<UUID, Tag> tags) {
+        Set<ConstraintViolation<CreatePostRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (!categories.containsKey(request.getCategoryId())) {
+            return "Category not found with id " + request.getCategoryId();
+        }
+        if (!tags.keySet().containsAll(request.getTagIds())) {
+            return "Not all specified tag IDs exist";
+        }
+        return null;
+    }
+
+    private Post toPost(CreatePostRequestDTO request, User author, Map<UUID, Category> categories, Map<UUID, Tag> tags) {
+        int wordCount = WordCounter.count(request.getContent());
+        Post post = new Post();
+        post.setTitle(request.getTitle());
+        post.setContent(request.getContent());
+        post.setStatus(request.getStatus());
+        post.setAuthor(author);
+        post.setWordCount(wordCount);
+        post.setReadingTime(PostServiceImpl.calculateReadingTime(wordCount));
+        post.setCategory(categories.get(request.getCategoryId()));
+        post.setTags(request.getTagIds().stream().map(tags::get).collect(Collectors.toCollection(HashSet::new)));
+        return post;
+    }
+
+    private static PostImportResultDTO failure(int index, String error) {
+        return PostImportResultDTO.builder()
+                .index(index)
+                .error(error)
+                .build();
+    }
+
+    private static PostImportReportDTO toReport(List<PostImportResultDTO> results) {
+        int failed = (int) results.stream().filter(result -> result.getError() != null).count();
+        return PostImportReportDTO.builder()
+                .imported(results.size() - failed)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+}
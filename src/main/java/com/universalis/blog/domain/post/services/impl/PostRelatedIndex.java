@@ -0,0 +1,311 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.dtos.PostTagIdView;
+import com.universalis.blog.domain.post.dtos.PostTitleView;
+import com.universalis.blog.domain.post.dtos.RelatedPostDTO;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.tag.entities.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * The most similar published posts of every published post, by Jaccard similarity of their tag sets, kept with
+ * their titles so a post's related posts are served from one map lookup. Candidates are the newest
+ * {@value #CANDIDATES_PER_TAG} posts of each of a post's tags, which bounds the work per post however popular a
+ * tag gets. When a post's tags change only those candidates and the posts listing it are touched, and each of
+ * those only re-ranks around the changed post unless the changed post dropped out of its list; a list can keep a
+ * post that newer posts pushed out of its tag's candidates until the list is next recomputed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostRelatedIndex {
+
+    static final int NEIGHBOURS = 5;
+    static final int CANDIDATES_PER_TAG = 200;
+
+    private record Neighbour(UUID id, double similarity) {
+    }
+
+    private record Tagged(UUID id, LocalDateTime createdAt) {
+    }
+
+    // Ties broken by id so rebuilt and incrementally maintained lists agree
+    private static final Comparator<Neighbour> MOST_SIMILAR_FIRST =
+            Comparator.comparingDouble(Neighbour::similarity).reversed().thenComparing(Neighbour::id);
+
+    private static final Comparator<Tagged> NEWEST_FIRST =
+            Comparator.comparing(Tagged::createdAt).reversed().thenComparing(Tagged::id);
+
+    private final PostRepository postRepository;
+    // Spring Boot's application task executor (virtual threads when spring.threads.virtual.enabled is set)
+    private final TaskExecutor applicationTaskExecutor;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Graph graph = new Graph();
+    // Writes made while a rebuild runs, replayed on the rebuilt graph before it is swapped in
+    private List<Consumer<Graph>> changedDuringRebuild;
+
+    /**
+     * Starts the initial rebuild on the application task executor, so startup does not wait for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        applicationTaskExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * Rebuilds the index from the published posts into a new graph without holding the lock, then swaps it in.
+     * Writes made while it runs are kept.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<UUID, Set<UUID>> tagIdsByPostId = postRepository.findTagIdsByStatus(PostStatus.PUBLISHED).stream()
+                .collect(Collectors.groupingBy(PostTagIdView::getPostId,
+                        Collectors.mapping(PostTagIdView::getTagId, Collectors.toSet())));
+        List<PostTitleView> published = postRepository.findTitlesByStatus(PostStatus.PUBLISHED);
+        Graph rebuilt = new Graph();
+        for (PostTitleView post : published) {
+            rebuilt.titles.put(post.getId(), post.getTitle());
+            rebuilt.link(post.getId(), post.getCreatedAt(), tagIdsByPostId.getOrDefault(post.getId(), Set.of()));
+        }
+        rebuilt.titles.keySet().forEach(id -> rebuilt.setNeighbours(id, rebuilt.computeNeighbours(id)));
+
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.forEach(change -> change.accept(rebuilt));
+            changedDuringRebuild = null;
+            graph = rebuilt;
+            log.info("Related posts index built with {} published posts", rebuilt.titles.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the post once the current transaction commits, or drops it from the index if it is not published.
+     *
+     * @param post Post that was created or updated
+     */
+    public void index(Post post) {
+        UUID id = post.getId();
+        if (post.getStatus() != PostStatus.PUBLISHED) {
+            remove(id);
+            return;
+        }
+        Set<UUID> tagIds = post.getTags().stream().map(Tag::getId).collect(Collectors.toUnmodifiableSet());
+        String title = post.getTitle();
+        LocalDateTime createdAt = post.getCreatedAt();
+        afterCommit(() -> apply(target -> target.put(id, title, createdAt, tagIds)));
+    }
+
+    /**
+     * Removes the post from the index once the current transaction commits.
+     *
+     * @param id Id of the post
+     */
+    public void remove(UUID id) {
+        afterCommit(() -> apply(target -> target.delete(id)));
+    }
+
+    /**
+     * @param id Id of a post
+     * @return The most similar published posts, most similar first; empty for drafts and untagged posts
+     */
+    public List<RelatedPostDTO> find(UUID id) {
+        lock.readLock().lock();
+        try {
+            return graph.neighbours.getOrDefault(id, List.of()).stream()
+                    .map(neighbour -> RelatedPostDTO.builder()
+                            .id(neighbour.id())
+                            .title(graph.titles.get(neighbour.id()))
+                            .build())
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Graph> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(graph);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Everything the index holds, so a rebuild can fill a new one off the lock
+    private static final class Graph {
+
+        private final Map<UUID, Set<UUID>> tagsByPost = new HashMap<>();
+        private final Map<UUID, LocalDateTime> createdAt = new HashMap<>();
+        private final Map<UUID, NavigableSet<Tagged>> postsByTag = new HashMap<>();
+        private final Map<UUID, String> titles = new HashMap<>();
+        private final Map<UUID, List<Neighbour>> neighbours = new HashMap<>();
+        // Reverse of neighbours: the posts whose lists hold a post
+        private final Map<UUID, Set<UUID>> listedBy = new HashMap<>();
+
+        private void put(UUID id, String title, LocalDateTime created, Set<UUID> tagIds) {
+            titles.put(id, title);
+            if (tagIds.equals(tagsByPost.get(id))) {
+                return;
+            }
+            Set<UUID> affected = new HashSet<>(listedBy.getOrDefault(id, Set.of()));
+            unlink(id);
+            link(id, created, tagIds);
+            tagIds.forEach(tagId -> affected.addAll(newestTagged(tagId)));
+            affected.remove(id);
+            setNeighbours(id, computeNeighbours(id));
+            affected.forEach(other -> adjust(other, id));
+        }
+
+        private void delete(UUID id) {
+            if (!tagsByPost.containsKey(id)) {
+                return;
+            }
+            Set<UUID> affected = new HashSet<>(listedBy.getOrDefault(id, Set.of()));
+            unlink(id);
+            titles.remove(id);
+            setNeighbours(id, null);
+            affected.forEach(other -> setNeighbours(other, computeNeighbours(other)));
+        }
+
+        // Of the other post's similarities only the one to the changed post moved
+        private void adjust(UUID other, UUID changed) {
+            List<Neighbour> current = neighbours.get(other);
+            double similarity = similarity(tagsByPost.get(other), tagsByPost.get(changed));
+            Neighbour previous = current.stream()
+                    .filter(neighbour -> neighbour.id().equals(changed))
+                    .findFirst()
+                    .orElse(null);
+            if (previous != null && similarity < previous.similarity()) {
+                // A post outside the list may now outrank the changed one
+                setNeighbours(other, computeNeighbours(other));
+                return;
+            }
+            List<Neighbour> updated = new ArrayList<>(current);
+            updated.remove(previous);
+            if (similarity > 0) {
+                updated.add(new Neighbour(changed, similarity));
+            }
+            setNeighbours(other, updated.stream().sorted(MOST_SIMILAR_FIRST).limit(NEIGHBOURS).toList());
+        }
+
+        private List<Neighbour> computeNeighbours(UUID id) {
+            Set<UUID> tagIds = tagsByPost.get(id);
+            Set<UUID> candidates = new HashSet<>();
+            tagIds.forEach(tagId -> candidates.addAll(newestTagged(tagId)));
+            candidates.remove(id);
+            return candidates.stream()
+                    .map(other -> new Neighbour(other, similarity(tagIds, tagsByPost.get(other))))
+                    .sorted(MOST_SIMILAR_FIRST)
+                    .limit(NEIGHBOURS)
+                    .toList();
+        }
+
+        private List<UUID> newestTagged(UUID tagId) {
+            NavigableSet<Tagged> posts = postsByTag.get(tagId);
+            if (posts == null) {
+                return List.of();
+            }
+            return posts.stream()
+                    .limit(CANDIDATES_PER_TAG)
+                    .map(Tagged::id)
+                    .toList();
+        }
+
+        private void setNeighbours(UUID id, List<Neighbour> updated) {
+            List<Neighbour> previous = updated == null ? neighbours.remove(id) : neighbours.put(id, updated);
+            if (previous != null) {
+                for (Neighbour neighbour : previous) {
+                    Set<UUID> listing = listedBy.get(neighbour.id());
+                    listing.remove(id);
+                    if (listing.isEmpty()) {
+                        listedBy.remove(neighbour.id());
+                    }
+                }
+            }
+            if (updated != null) {
+                updated.forEach(neighbour -> listedBy.computeIfAbsent(neighbour.id(), key -> new HashSet<>()).add(id));
+            }
+        }
+
+        private void link(UUID id, LocalDateTime created, Set<UUID> tagIds) {
+            tagsByPost.put(id, tagIds);
+            createdAt.put(id, created);
+            Tagged tagged = new Tagged(id, created);
+            tagIds.forEach(tagId -> postsByTag.computeIfAbsent(tagId, key -> new TreeSet<>(NEWEST_FIRST)).add(tagged));
+        }
+
+        private void unlink(UUID id) {
+            Set<UUID> tagIds = tagsByPost.remove(id);
+            if (tagIds == null) {
+                return;
+            }
+            Tagged tagged = new Tagged(id, createdAt.remove(id));
+            for (UUID tagId : tagIds) {
+                NavigableSet<Tagged> posts = postsByTag.get(tagId);
+                posts.remove(tagged);
+                if (posts.isEmpty()) {
+                    postsByTag.remove(tagId);
+                }
+            }
+        }
+    }
+
+    private static double similarity(Set<UUID> first, Set<UUID> second) {
+        int shared = (int) first.stream().filter(second::contains).count();
+        return shared == 0 ? 0 : jaccard(shared, first.size(), second.size());
+    }
+
+    private static double jaccard(int shared, int firstSize, int secondSize) {
+        return (double) shared / (firstSize + secondSize - shared);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,284 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.dtos.PostSearchView;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory inverted index over the title and content of published posts, ranked with BM25.
+ * Built from the database on startup and kept current by post writes; only post ids are held
+ * here, summaries are read from the database for the ranked hits.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // A title occurrence counts as this many body occurrences
+    private static final int TITLE_WEIGHT = 3;
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private record Document(Map<String, Integer> termFrequencies, int length) {
+    }
+
+    private record ScoredPost(UUID id, double score) {
+    }
+
+    private final PostRepository postRepository;
+    // Spring Boot's application task executor (virtual threads when spring.threads.virtual.enabled is set)
+    private final TaskExecutor applicationTaskExecutor;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<UUID, Integer>> postings = new HashMap<>();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private long totalLength;
+    // Posts written while a rebuild runs; the rebuild must not overwrite them with what it read earlier
+    private Set<UUID> changedDuringRebuild;
+
+    /**
+     * Starts the initial rebuild on the application task executor, so startup does not wait for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        applicationTaskExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * Rebuilds the index from the published posts, reading them in id order in batches
+     * and tokenizing each batch in parallel. Writes made while it runs are kept.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            changedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        UUID afterId = null;
+        List<PostSearchView> batch;
+        do {
+            batch = postRepository.findSearchDocuments(PostStatus.PUBLISHED, afterId, Limit.of(REBUILD_BATCH_SIZE));
+            Map<UUID, Document> analyzed = batch.parallelStream()
+                    .collect(Collectors.toConcurrentMap(PostSearchView::getId,
+                            view -> analyze(view.getTitle(), view.getContent())));
+            lock.writeLock().lock();
+            try {
+                analyzed.forEach((id, document) -> {
+                    if (!changedDuringRebuild.contains(id)) {
+                        put(id, document);
+                    }
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.getLast().getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = null;
+            log.info("Search index built with {} published posts and {} terms", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the post once the current transaction commits, or drops it from the index if it is not published.
+     *
+     * @param post Post that was created or updated
+     */
+    public void index(Post post) {
+        UUID id = post.getId();
+        if (post.getStatus() != PostStatus.PUBLISHED) {
+            remove(id);
+            return;
+        }
+        String title = post.getTitle();
+        String content = post.getContent();
+        afterCommit(() -> {
+            Document document = analyze(title, content);
+            lock.writeLock().lock();
+            try {
+                put(id, document);
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.add(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Removes the post from the index once the current transaction commits.
+     *
+     * @param id Id of the post
+     */
+    public void remove(UUID id) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                delete(id);
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.add(id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * @param query Free text; every term contributes to the score, posts need to match at least one
+     * @param limit Maximum number of hits
+     * @return Ids of the best matching published posts, best first
+     */
+    public List<UUID> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>();
+        forEachTerm(query, terms::add);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            for (String term : terms) {
+                Map<UUID, Integer> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+                int documentFrequency = termPostings.size();
+                double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                termPostings.forEach((id, frequency) -> {
+                    double lengthNorm = 1 - B + B * documents.get(id).length() / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                    scores.merge(id, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ScoredPost> hits = new ArrayList<>(scores.size());
+        scores.forEach((id, score) -> hits.add(new ScoredPost(id, score)));
+        return hits.stream()
+                .sorted(Comparator.comparingDouble(ScoredPost::score).reversed().thenComparing(ScoredPost::id))
+                .limit(limit)
+                .map(ScoredPost::id)
+                .toList();
+    }
+
+    // Callers hold the write lock
+    private void put(UUID id, Document document) {
+        delete(id);
+        documents.put(id, document);
+        totalLength += document.length();
+        document.termFrequencies().forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, frequency));
+    }
+
+    // Callers hold the write lock
+    private void delete(UUID id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length();
+        document.termFrequencies().keySet().forEach(term -> {
+            Map<UUID, Integer> termPostings = postings.get(term);
+            termPostings.remove(id);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+    }
+
+    private static Document analyze(String title, String content) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int[] length = {0};
+        forEachTerm(title, term -> {
+            termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+            length[0] += TITLE_WEIGHT;
+        });
+        forEachTerm(content, term -> {
+            termFrequencies.merge(term, 1, Integer::sum);
+            length[0]++;
+        });
+        return new Document(termFrequencies, length[0]);
+    }
+
+    /**
+     * Splits text into lower-cased runs of Unicode letters and digits.
+     */
+    static void forEachTerm(String text, Consumer<String> consumer) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder term = new StringBuilder();
+        for (int i = 0, length = text.length(); i < length; ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint)) {
+                term.appendCodePoint(Character.toLowerCase(codePoint));
+            } else if (!term.isEmpty()) {
+                consumer.accept(term.toString());
+                term.setLength(0);
+            }
+        }
+        if (!term.isEmpty()) {
+            consumer.accept(term.toString());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,26 +1,49 @@
 package com.universalis.blog.domain.post.services.impl;
 
+import com.universalis.blog.config.CacheConfig;
+import com.universalis.blog.domain.common.services.ContentVersions;
+import com.universalis.blog.domain.category.dtos.CategoryWithPostCount;
 import com.universalis.blog.domain.post.dtos.CreatePostRequest;
+import com.universalis.blog.domain.post.dtos.FacetCountDTO;
+import com.universalis.blog.domain.post.dtos.PostCursor;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.PostPageDTO;
+import com.universalis.blog.domain.post.dtos.PostSummaryDTO;
+import com.universalis.blog.domain.post.dtos.PostSummaryView;
+import com.universalis.blog.domain.post.dtos.PostTagNameView;
+import com.universalis.blog.domain.post.dtos.PostVersionView;
+import com.universalis.blog.domain.post.dtos.RelatedPostDTO;
 import com.universalis.blog.domain.post.entities.PostStatus;
 import com.universalis.blog.domain.post.dtos.UpdatePostRequest;
 import com.universalis.blog.domain.category.entities.Category;
 import com.universalis.blog.domain.post.entities.Post;
 import com.universalis.blog.domain.tag.entities.Tag;
 import com.universalis.blog.domain.user.entities.User;
+import com.universalis.blog.domain.post.mappers.PostMapper;
 import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.post.repositories.PostSpecifications;
+import com.universalis.blog.domain.post.repositories.PostViewCountRepository;
 import com.universalis.blog.domain.category.services.CategoryService;
 import com.universalis.blog.domain.post.services.PostService;
+import com.universalis.blog.domain.tag.dtos.TagWithPostCount;
 import com.universalis.blog.domain.tag.services.TagService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,40 +51,99 @@ import java.util.stream.Collectors;
 public class PostServiceImpl implements PostService {
 
     private static final int WORDS_PER_MINUTE = 200;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final PostRepository postRepository;
     private final CategoryService categoryService;
     private final TagService tagService;
+    private final PostMapper postMapper;
+    private final ContentVersions contentVersions;
+    private final PostSearchIndex postSearchIndex;
+    private final PostFacetIndex postFacetIndex;
+    private final PostViewCounter postViewCounter;
+    private final PostViewCountRepository postViewCountRepository;
+    private final PostTrendingIndex postTrendingIndex;
+    private final PostRelatedIndex postRelatedIndex;
 
 
     @Override
     @Transactional
-    public List<Post> getAllPosts(UUID categoryId, UUID tagId) {
-        if (categoryId != null && tagId != null) {
-            Category category = categoryService.getCategoryById(categoryId);
-            Tag tag = tagService.getTagById(tagId);
-            return postRepository.findAllByStatusAndCategoryAndTagsContaining(
-                    PostStatus.PUBLISHED, category, tag);
+    public PostPageDTO getAllPosts(PostFilter filter, String cursor, int size) {
+        validatePageSize(size);
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
         }
+        PostCursor postCursor = cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+        // Every criterion, the sort order and the cursor go into one keyset query.
+        // One extra row tells whether another page exists without issuing a count query.
+        List<PostSummaryView> rows = postRepository.findSummaries(PostSpecifications.listing(filter, postCursor),
+                PostSpecifications.listingOrder(filter.getSort()), Limit.of(size + 1));
 
-        if (categoryId != null) {
-            Category category = categoryService.getCategoryById(categoryId);
-            return postRepository.findAllByStatusAndCategory(
-                    PostStatus.PUBLISHED, category);
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            PostSummaryView last = rows.getLast();
+            nextCursor = new PostCursor(last.getCreatedAt(), last.getId()).encode();
         }
+        PostPageDTO.PostPageDTOBuilder page = PostPageDTO.builder()
+                .items(toSummaries(rows))
+                .nextCursor(nextCursor);
+        if (postCursor == null) {
+            // Facets describe the whole filter, so following pages leave them out
+            PostFacetIndex.FacetCounts counts = postFacetIndex.count(filter);
+            Map<UUID, String> tagNames = tagService.getTags().stream()
+                    .collect(Collectors.toMap(TagWithPostCount::getId, TagWithPostCount::getName));
+            Map<UUID, String> categoryNames = categoryService.listCategories().stream()
+                    .collect(Collectors.toMap(CategoryWithPostCount::getId, CategoryWithPostCount::getName));
+            page.tagFacets(toFacets(counts.tags(), tagNames))
+                    .categoryFacets(toFacets(counts.categories(), categoryNames));
+        }
+        return page.build();
+    }
 
-        if (tagId != null) {
-            Tag tag = tagService.getTagById(tagId);
-            return postRepository.findAllByStatusAndTagsContaining(
-                    PostStatus.PUBLISHED, tag);
+    @Override
+    public List<PostSummaryDTO> searchPosts(String query, int size) {
+        validatePageSize(size);
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
         }
+        List<UUID> rankedIds = postSearchIndex.search(query, size);
+        return toSummaries(findSummariesInOrder(rankedIds));
+    }
 
-        return postRepository.findAllByStatus(PostStatus.PUBLISHED);
+    @Override
+    public List<PostSummaryDTO> getTrendingPosts(int size) {
+        validatePageSize(size);
+        return toSummaries(findSummariesInOrder(postTrendingIndex.top(size)));
     }
 
     @Override
     public Post getPost(UUID id) {
-        return postRepository.findById(id)
+        return postRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Post does not exist with id"));
+    }
+
+    // Callers count reads of a post they just found published; views racing its deletion are dropped by the counter
+    @Override
+    public long recordView(UUID id) {
+        postTrendingIndex.recordView(id);
+        return postViewCounter.increment(id);
+    }
+
+    @Override
+    public long getViewCount(UUID id) {
+        return postViewCounter.count(id);
+    }
+
+    @Override
+    public List<RelatedPostDTO> getRelatedPosts(UUID id) {
+        return postRelatedIndex.find(id);
+    }
+
+    @Override
+    public PostVersionView getPostVersion(UUID id) {
+        return postRepository.findVersionById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post does not exist with id"));
     }
 
@@ -72,32 +154,45 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional
+    // Post counts shown in the tag and category catalogs depend on posts
+    @CacheEvict(cacheNames = {CacheConfig.TAGS_CACHE, CacheConfig.CATEGORIES_CACHE}, allEntries = true)
     public Post createPost(User user, CreatePostRequest createPostRequest) {
         Post newPost = new Post();
         newPost.setTitle(createPostRequest.getTitle());
         newPost.setContent(createPostRequest.getContent());
         newPost.setStatus(createPostRequest.getStatus());
         newPost.setAuthor(user);
-        newPost.setReadingTime(calculateReadingTime(createPostRequest.getContent()));
+        int wordCount = WordCounter.count(createPostRequest.getContent());
+        newPost.setWordCount(wordCount);
+        newPost.setReadingTime(calculateReadingTime(wordCount));
         Category category = categoryService.getCategoryById(createPostRequest.getCategoryId());
         newPost.setCategory(category);
         Set<UUID> tagIds = createPostRequest.getTagIds();
         List<Tag> tags = tagService.getTagsByIds(tagIds);
         newPost.setTags(new HashSet<>(tags));
+        contentVersions.changed(ContentVersions.Collection.POSTS, ContentVersions.Collection.TAGS,
+                ContentVersions.Collection.CATEGORIES);
 
-        return postRepository.save(newPost);
+        Post savedPost = postRepository.save(newPost);
+        postSearchIndex.index(savedPost);
+        postFacetIndex.index(savedPost);
+        postRelatedIndex.index(savedPost);
+        return savedPost;
 
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.TAGS_CACHE, CacheConfig.CATEGORIES_CACHE}, allEntries = true)
     public Post updatePost(UUID id, UpdatePostRequest updatePostRequest) {
         Post existingPost = postRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Post does not exist with id"));
         existingPost.setTitle(updatePostRequest.getTitle());
         existingPost.setContent(updatePostRequest.getContent());
         existingPost.setStatus(updatePostRequest.getStatus());
-        existingPost.setReadingTime(calculateReadingTime(updatePostRequest.getContent()));
+        int wordCount = WordCounter.count(updatePostRequest.getContent());
+        existingPost.setWordCount(wordCount);
+        existingPost.setReadingTime(calculateReadingTime(wordCount));
         UUID categoryId = updatePostRequest.getCategoryId();
         if (!existingPost.getCategory().getId().equals(categoryId)) {
             Category newCategory = categoryService.getCategoryById(id);
@@ -109,20 +204,79 @@ public class PostServiceImpl implements PostService {
             List<Tag> newTags = tagService.getTagsByIds(updatePostRequestTagIds);
             existingPost.setTags(new HashSet<>(newTags));
         }
-        return postRepository.save(existingPost);
+        contentVersions.changed(ContentVersions.Collection.POSTS, ContentVersions.Collection.TAGS,
+                ContentVersions.Collection.CATEGORIES);
+        Post savedPost = postRepository.save(existingPost);
+        postSearchIndex.index(savedPost);
+        postFacetIndex.index(savedPost);
+        postRelatedIndex.index(savedPost);
+        if (savedPost.getStatus() != PostStatus.PUBLISHED) {
+            postTrendingIndex.remove(id);
+        }
+        return savedPost;
     }
 
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.TAGS_CACHE, CacheConfig.CATEGORIES_CACHE}, allEntries = true)
     public void deletePost(UUID id) {
         Post postToDelete = getPost(id);
         postRepository.delete(postToDelete);
+        postViewCountRepository.deleteById(id);
+        postSearchIndex.remove(id);
+        postFacetIndex.remove(id);
+        postRelatedIndex.remove(id);
+        postViewCounter.remove(id);
+        postTrendingIndex.remove(id);
+        contentVersions.changed(ContentVersions.Collection.POSTS, ContentVersions.Collection.TAGS,
+                ContentVersions.Collection.CATEGORIES);
+    }
+
+    // Rows of posts deleted or unpublished since their ids were looked up are skipped
+    private List<PostSummaryView> findSummariesInOrder(List<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, PostSummaryView> rowsById = postRepository.findSummariesByIds(PostStatus.PUBLISHED, postIds).stream()
+                .collect(Collectors.toMap(PostSummaryView::getId, Function.identity()));
+        return postIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
-    private Integer calculateReadingTime(String content) {
-        if (content == null || content.isEmpty()) {
-            return 0;
+    private List<PostSummaryDTO> toSummaries(List<PostSummaryView> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
         }
-        int wordCount = content.trim().split("\\s+").length;
-        return (int) Math.ceil((double) wordCount / WORDS_PER_MINUTE);
+        List<UUID> postIds = rows.stream().map(PostSummaryView::getId).toList();
+        Map<UUID, Set<String>> tagNamesByPostId = postRepository.findTagNamesByPostIds(postIds).stream()
+                .collect(Collectors.groupingBy(PostTagNameView::getPostId,
+                        Collectors.mapping(PostTagNameView::getTagName, Collectors.toCollection(TreeSet::new))));
+        return rows.stream()
+                .map(row -> {
+                    PostSummaryDTO summary = postMapper.toSummaryDTO(row);
+                    summary.setTagNames(tagNamesByPostId.getOrDefault(row.getId(), Set.of()));
+                    return summary;
+                })
+                .toList();
+    }
+
+    private List<FacetCountDTO> toFacets(Map<UUID, Long> counts, Map<UUID, String> names) {
+        return counts.entrySet().stream()
+                .filter(count -> names.containsKey(count.getKey()))
+                .map(count -> new FacetCountDTO(count.getKey(), names.get(count.getKey()), count.getValue()))
+                .sorted(Comparator.comparing(FacetCountDTO::getPostCount).reversed()
+                        .thenComparing(FacetCountDTO::getName))
+                .toList();
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    static int calculateReadingTime(int wordCount) {
+        return (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
     }
 }
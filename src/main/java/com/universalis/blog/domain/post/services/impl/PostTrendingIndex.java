@@ -0,0 +1,235 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.repositories.PostTrendingScoreRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ranks published posts by engagement that decays exponentially with the configured half-life.
+ * <p>
+ * Scores use forward decay: an event at time t adds {@code weight * e^(rate * (t - landmark))}. Dividing every
+ * score by the same {@code e^(rate * (now - landmark))} gives the decayed scores, so their order never changes
+ * with time alone and a score only changes on its own events. A bounded set of the highest scores is therefore
+ * maintained per event in O(log K) and read without scanning. Scores are snapshotted to post_trending_scores
+ * on a schedule and at shutdown, and restored at startup.
+ */
+@Component
+@Slf4j
+public class PostTrendingIndex implements SmartInitializingSingleton {
+
+    static final int CAPACITY = 100;
+    static final double VIEW_WEIGHT = 1.0;
+    // Rescaled before e^exponent grows large enough to cost precision; with a 24h half-life, every ~72 days
+    private static final double MAX_EXPONENT = 50;
+    // Decayed scores below this are dropped when rescaling
+    private static final double MIN_SCORE = 1e-3;
+
+    private static final String INSERT_SNAPSHOT_ROW =
+            "INSERT INTO post_trending_scores (post_id, score, scored_at) VALUES (?, ?, ?)";
+
+    private record Ranked(UUID postId, double score) {
+    }
+
+    private static final Comparator<Ranked> HIGHEST_FIRST = Comparator.comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::postId);
+
+    private final PostTrendingScoreRepository postTrendingScoreRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    // Decay per second
+    private final double rate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Double> scores = new HashMap<>();
+    private final TreeSet<Ranked> top = new TreeSet<>(HIGHEST_FIRST);
+    // Set by the restore or the first event
+    private Instant landmark;
+
+    public PostTrendingIndex(PostTrendingScoreRepository postTrendingScoreRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${posts.trending.half-life:PT24H}") Duration halfLife) {
+        this.postTrendingScoreRepository = postTrendingScoreRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rate = Math.log(2) / halfLife.toSeconds();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Instant now = Instant.now();
+        lock.writeLock().lock();
+        try {
+            landmark = now;
+            postTrendingScoreRepository.findAll().forEach(row ->
+                    put(row.getPostId(), row.getScore() * Math.exp(-rate * secondsBetween(row.getScoredAt(), now))));
+            log.info("Trending index restored with {} posts", scores.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void recordView(UUID postId) {
+        record(postId, VIEW_WEIGHT, Instant.now());
+    }
+
+    void record(UUID postId, double weight, Instant at) {
+        lock.writeLock().lock();
+        try {
+            if (landmark == null) {
+                landmark = at;
+            }
+            rescaleIfNeeded(at);
+            double added = weight * Math.exp(rate * secondsBetween(landmark, at));
+            put(postId, scores.getOrDefault(postId, 0.0) + added);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the post from the ranking once the current transaction commits, e.g. when it is deleted or unpublished.
+     */
+    public void remove(UUID postId) {
+        Runnable action = () -> {
+            lock.writeLock().lock();
+            try {
+                Double score = scores.remove(postId);
+                if (score != null && top.remove(new Ranked(postId, score))) {
+                    promoteNext();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * @param limit Maximum number of ids, at most {@link #CAPACITY}
+     * @return Ids of the highest scoring posts, highest first
+     */
+    public List<UUID> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<UUID> ids = new ArrayList<>(Math.min(limit, top.size()));
+            for (Ranked ranked : top) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                ids.add(ranked.postId());
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the stored snapshot with the current decayed scores.
+     */
+    @Scheduled(fixedDelayString = "${posts.trending.snapshot-interval:PT5M}",
+            initialDelayString = "${posts.trending.snapshot-interval:PT5M}")
+    @PreDestroy
+    public synchronized void snapshot() {
+        Instant now = Instant.now();
+        Timestamp scoredAt = Timestamp.from(now);
+        List<Object[]> rows = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            double scale = landmark == null ? 1 : Math.exp(-rate * secondsBetween(landmark, now));
+            scores.forEach((postId, score) -> rows.add(new Object[]{postId, score * scale, scoredAt}));
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM post_trending_scores");
+                jdbcTemplate.batchUpdate(INSERT_SNAPSHOT_ROW, rows);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Saving the trending snapshot of {} posts failed", rows.size(), e);
+        }
+    }
+
+    private void put(UUID postId, double score) {
+        Double previous = scores.put(postId, score);
+        if (previous != null) {
+            top.remove(new Ranked(postId, previous));
+        }
+        top.add(new Ranked(postId, score));
+        if (top.size() > CAPACITY) {
+            top.pollLast();
+        }
+    }
+
+    // Fills the place a removal left in the top set with the highest score outside it; removals are rare,
+    // so a scan of all scores is cheaper than keeping every score ordered on each view
+    private void promoteNext() {
+        if (scores.size() <= top.size()) {
+            return;
+        }
+        Ranked next = null;
+        for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+            Ranked candidate = new Ranked(entry.getKey(), entry.getValue());
+            if ((next == null || HIGHEST_FIRST.compare(candidate, next) < 0) && !top.contains(candidate)) {
+                next = candidate;
+            }
+        }
+        top.add(next);
+    }
+
+    // Moves the landmark to the event time, dividing every score by the same factor; the order is unchanged
+    private void rescaleIfNeeded(Instant at) {
+        double exponent = rate * secondsBetween(landmark, at);
+        if (exponent < MAX_EXPONENT) {
+            return;
+        }
+        double scale = Math.exp(-exponent);
+        Map<UUID, Double> rescaled = new HashMap<>();
+        scores.forEach((postId, score) -> {
+            if (score * scale >= MIN_SCORE) {
+                rescaled.put(postId, score * scale);
+            }
+        });
+        scores.clear();
+        top.clear();
+        landmark = at;
+        rescaled.forEach(this::put);
+    }
+
+    private static double secondsBetween(Instant from, Instant to) {
+        return Duration.between(from, to).toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,185 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.repositories.PostViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts post views in memory and flushes the deltas to post_view_counts in batched upserts, on a schedule
+ * and at shutdown, so reads never wait on a hot counter row. Totals are served from memory: the flushed
+ * counts loaded at startup plus what has been counted since.
+ */
+@Component
+@Slf4j
+public class PostViewCounter implements SmartInitializingSingleton {
+
+    static final int BATCH_SIZE = 500;
+
+    // Standard MERGE, supported by PostgreSQL 15+ and H2
+    private static final String UPSERT = """
+            MERGE INTO post_view_counts AS t
+            USING (VALUES (?, ?)) AS s(post_id, views)
+            ON t.post_id = s.post_id
+            WHEN MATCHED THEN UPDATE SET views = t.views + s.views
+            WHEN NOT MATCHED THEN INSERT (post_id, views) VALUES (s.post_id, s.views)
+            """;
+    private static final String DELETE = "DELETE FROM post_view_counts WHERE post_id = ?";
+
+    private record Delta(UUID postId, LongAdder adder, long views) {
+    }
+
+    private final PostViewCountRepository postViewCountRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Views not yet flushed; LongAdder stripes concurrent increments of the same post. Counters drained by a flush
+    // are retired, so the map only holds posts viewed since the last flush.
+    private final Map<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> flushed = new ConcurrentHashMap<>();
+    // Deleted posts -> flush generation of the deletion; a view racing the deletion must not recreate a counter.
+    // Kept for one full flush interval, far longer than any in-flight increment.
+    private final Map<UUID, Long> removed = new ConcurrentHashMap<>();
+    private volatile long generation;
+
+    public PostViewCounter(PostViewCountRepository postViewCountRepository,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager) {
+        this.postViewCountRepository = postViewCountRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        postViewCountRepository.findAll()
+                .forEach(viewCount -> flushed.put(viewCount.getPostId(), viewCount.getViews()));
+        log.info("Loaded view counts of {} posts", flushed.size());
+    }
+
+    /**
+     * @param postId Id of the viewed post
+     * @return Total views of the post, including this one
+     */
+    public long increment(UUID postId) {
+        if (removed.containsKey(postId)) {
+            return 0;
+        }
+        LongAdder adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        adder.increment();
+        if (pending.get(postId) != adder) {
+            // flush() retired the counter as this view reached it
+            transfer(postId, adder);
+        }
+        // remove() marks the post before dropping its counter, so a counter recreated meanwhile is seen here
+        if (removed.containsKey(postId)) {
+            pending.remove(postId);
+            return 0;
+        }
+        return count(postId);
+    }
+
+    public long count(UUID postId) {
+        LongAdder adder = pending.get(postId);
+        return flushed.getOrDefault(postId, 0L) + (adder == null ? 0 : adder.sum());
+    }
+
+    /**
+     * Forgets the post's counts once the current transaction commits; the caller deletes its row.
+     */
+    public void remove(UUID postId) {
+        Runnable action = () -> {
+            removed.put(postId, generation);
+            pending.remove(postId);
+            flushed.remove(postId);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Writes the views counted since the last flush. Each batch is its own transaction and its deltas are
+     * taken off the pending counters only after it commits, so a failed batch is retried on the next flush
+     * and views counted during the flush are kept.
+     */
+    @Scheduled(fixedDelayString = "${posts.views.flush-interval:PT30S}",
+            initialDelayString = "${posts.views.flush-interval:PT30S}")
+    @PreDestroy
+    public synchronized void flush() {
+        List<Delta> deltas = new ArrayList<>();
+        pending.forEach((postId, adder) -> {
+            long views = adder.sum();
+            if (views == 0) {
+                retire(postId, adder);
+            } else if (!removed.containsKey(postId)) {
+                deltas.add(new Delta(postId, adder, views));
+            }
+        });
+        for (int from = 0; from < deltas.size(); from += BATCH_SIZE) {
+            List<Delta> batch = deltas.subList(from, Math.min(from + BATCH_SIZE, deltas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT,
+                        batch.stream().map(delta -> new Object[]{delta.postId(), delta.views()}).toList()));
+            } catch (RuntimeException e) {
+                log.warn("Flushing view counts of {} posts failed, retrying on the next flush", batch.size(), e);
+                return;
+            }
+            List<Object[]> deletedMeanwhile = new ArrayList<>();
+            for (Delta delta : batch) {
+                if (removed.containsKey(delta.postId())) {
+                    // Deleted while the batch was written: drop the row the upsert may have recreated
+                    deletedMeanwhile.add(new Object[]{delta.postId()});
+                } else if (pending.get(delta.postId()) == delta.adder()) {
+                    flushed.merge(delta.postId(), delta.views(), Long::sum);
+                    delta.adder().add(-delta.views());
+                    if (delta.adder().sum() == 0) {
+                        retire(delta.postId(), delta.adder());
+                    }
+                }
+            }
+            if (!deletedMeanwhile.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE, deletedMeanwhile);
+            }
+        }
+        long current = generation;
+        removed.values().removeIf(removedIn -> removedIn < current);
+        generation = current + 1;
+    }
+
+    // Drops a drained counter. A view may still reach it through a reference taken before; whichever of flush() and
+    // that increment() notices first moves it to the current counter, and sumThenReset() hands it to only one of them.
+    private void retire(UUID postId, LongAdder adder) {
+        if (pending.remove(postId, adder)) {
+            transfer(postId, adder);
+        }
+    }
+
+    private void transfer(UUID postId, LongAdder retired) {
+        long late = retired.sumThenReset();
+        if (late != 0 && !removed.containsKey(postId)) {
+            pending.computeIfAbsent(postId, id -> new LongAdder()).add(late);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.universalis.blog.domain.post.services.impl;
+
+/**
+ * Counts whitespace-separated words in a single pass over the characters, without allocating.
+ * Whitespace is Unicode-aware: besides the ASCII separators matched by {@code \s}, no-break and
+ * other Unicode space separators also end a word. Every such character lies in the BMP,
+ * so surrogate pairs never need decoding.
+ */
+public final class WordCounter {
+
+    private WordCounter() {
+    }
+
+    public static int count(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                inWord = false;
+            } else if (!inWord) {
+                inWord = true;
+                words++;
+            }
+        }
+        return words;
+    }
+}
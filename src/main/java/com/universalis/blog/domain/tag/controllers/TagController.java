@@ -1,7 +1,10 @@
 package com.universalis.blog.domain.tag.controllers;
 
+import com.universalis.blog.domain.common.controllers.ConditionalRequests;
+import com.universalis.blog.domain.common.services.ContentVersions;
 import com.universalis.blog.domain.tag.dtos.CreateTagsRequest;
 import com.universalis.blog.domain.tag.dtos.TagDTO;
+import com.universalis.blog.domain.tag.dtos.TagWithPostCount;
 import com.universalis.blog.domain.tag.entities.Tag;
 import com.universalis.blog.domain.tag.mappers.TagMapper;
 import com.universalis.blog.domain.tag.services.TagService;
@@ -9,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,14 +24,18 @@ public class TagController {
 
     private final TagService tagService;
     private final TagMapper tagMapper;
+    private final ConditionalRequests conditionalRequests;
 
     @GetMapping
-    public ResponseEntity<List<TagDTO>> getAllTags() {
-        List<Tag> tags = tagService.getTags();
+    public ResponseEntity<List<TagDTO>> getAllTags(WebRequest request) {
+        if (conditionalRequests.checkNotModified(request, ContentVersions.Collection.TAGS)) {
+            return conditionalRequests.notModified();
+        }
+        List<TagWithPostCount> tags = tagService.getTags();
         List<TagDTO> tagDTO = tags.stream()
                 .map(tagMapper::toDTO)
                 .toList();
-        return ResponseEntity.ok(tagDTO);
+        return conditionalRequests.ok(tagDTO);
     }
 
     @PostMapping
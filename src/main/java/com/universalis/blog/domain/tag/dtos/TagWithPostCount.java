@@ -0,0 +1,10 @@
+package com.universalis.blog.domain.tag.dtos;
+
+import java.util.UUID;
+
+public interface TagWithPostCount {
+
+    UUID getId();
+    String getName();
+    Long getPostCount();
+}
@@ -2,6 +2,7 @@ package com.universalis.blog.domain.tag.mappers;
 
 import com.universalis.blog.domain.post.entities.PostStatus;
 import com.universalis.blog.domain.tag.dtos.TagDTO;
+import com.universalis.blog.domain.tag.dtos.TagWithPostCount;
 import com.universalis.blog.domain.post.entities.Post;
 import com.universalis.blog.domain.tag.entities.Tag;
 import org.mapstruct.Mapper;
@@ -17,6 +18,8 @@ public interface TagMapper {
     @Mapping(target = "postCount", source = "posts", qualifiedByName = "calculatePostCount")
     TagDTO toDTO(Tag tag);
 
+    TagDTO toDTO(TagWithPostCount tagWithPostCount);
+
     @Named("calculatePostCount")
     default Integer calculatePostCount(Set<Post> posts) {
         if (posts == null) {
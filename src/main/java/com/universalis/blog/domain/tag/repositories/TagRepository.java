@@ -1,8 +1,11 @@
 package com.universalis.blog.domain.tag.repositories;
 
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.tag.dtos.TagWithPostCount;
 import com.universalis.blog.domain.tag.entities.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,8 +15,12 @@ import java.util.UUID;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, UUID> {
 
-    @Query("SELECT t FROM Tag t LEFT JOIN FETCH t.posts")
-    List<Tag> findAllWithPostCount();
+    // Counting in the database keeps the cost proportional to the number of tags; no post rows are loaded.
+    @Query("""
+            SELECT t.id AS id, t.name AS name, COUNT(p.id) AS postCount
+            FROM Tag t LEFT JOIN t.posts p ON p.status = :status
+            GROUP BY t.id, t.name""")
+    List<TagWithPostCount> findAllWithPostCount(@Param("status") PostStatus status);
 
     List<Tag> findByNameIn(Set<String> names);
 }
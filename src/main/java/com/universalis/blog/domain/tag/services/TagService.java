@@ -1,5 +1,6 @@
 package com.universalis.blog.domain.tag.services;
 
+import com.universalis.blog.domain.tag.dtos.TagWithPostCount;
 import com.universalis.blog.domain.tag.entities.Tag;
 
 import java.util.List;
@@ -7,9 +8,10 @@ import java.util.Set;
 import java.util.UUID;
 
 public interface TagService {
-    List<Tag> getTags();
+    List<TagWithPostCount> getTags();
     Tag getTagById(UUID id);
     List<Tag> getTagsByIds(Set<UUID> ids);
+    List<Tag> getExistingTagsByIds(Set<UUID> ids);
     List<Tag> createTags(Set<String> tagNamesToCreate);
     void deleteTag(UUID id);
 
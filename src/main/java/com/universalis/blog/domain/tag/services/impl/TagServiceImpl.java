@@ -1,10 +1,16 @@
 package com.universalis.blog.domain.tag.services.impl;
 
+import com.universalis.blog.config.CacheConfig;
+import com.universalis.blog.domain.common.services.ContentVersions;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.tag.dtos.TagWithPostCount;
 import com.universalis.blog.domain.tag.entities.Tag;
 import com.universalis.blog.domain.tag.repositories.TagRepository;
 import com.universalis.blog.domain.tag.services.TagService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +22,12 @@ import java.util.stream.Collectors;
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final ContentVersions contentVersions;
 
     @Override
-    public List<Tag> getTags() {
-        return tagRepository.findAllWithPostCount();
+    @Cacheable(CacheConfig.TAGS_CACHE)
+    public List<TagWithPostCount> getTags() {
+        return tagRepository.findAllWithPostCount(PostStatus.PUBLISHED);
     }
 
     @Override
@@ -37,8 +45,15 @@ public class TagServiceImpl implements TagService {
         return foundTags;
     }
 
+    // Unknown ids are skipped; callers compare the result with what they asked for
+    @Override
+    public List<Tag> getExistingTagsByIds(Set<UUID> ids) {
+        return tagRepository.findAllById(ids);
+    }
+
     @Transactional
     @Override
+    @CacheEvict(cacheNames = CacheConfig.TAGS_CACHE, allEntries = true)
     public List<Tag> createTags(Set<String> tagNames) {
         List<Tag> existingTags = tagRepository.findByNameIn(tagNames);
         Set<String> existingTagNames = existingTags.stream()
@@ -54,6 +69,7 @@ public class TagServiceImpl implements TagService {
         List<Tag> savedTags = new ArrayList<>();
         if (!newTags.isEmpty()) {
             savedTags = tagRepository.saveAll(newTags);
+            contentVersions.changed(ContentVersions.Collection.TAGS);
         }
 
         return savedTags;
@@ -61,12 +77,14 @@ public class TagServiceImpl implements TagService {
 
     @Transactional
     @Override
+    @CacheEvict(cacheNames = CacheConfig.TAGS_CACHE, allEntries = true)
     public void deleteTag(UUID id) {
         tagRepository.findById(id).ifPresent(tag -> {
             if(!tag.getPosts().isEmpty()) {
                 throw new IllegalStateException("Cannot delete tag with posts");
             }
             tagRepository.deleteById(id);
+            contentVersions.changed(ContentVersions.Collection.TAGS);
         });
     }
 }
@@ -6,6 +6,7 @@ import com.universalis.blog.domain.user.entities.User;
 import com.universalis.blog.domain.user.repositories.UserRepository;
 import com.universalis.blog.domain.user.services.UserService;
 import com.universalis.blog.exceptions.UserRegistrationException;
+import com.universalis.blog.security.BlogUserDetailsService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,6 +20,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final BlogUserDetailsService userDetailsService;
 
     @Override
     public User getUserById(UUID id) {
@@ -41,6 +43,7 @@ public class UserServiceImpl implements UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        userDetailsService.evict(savedUser.getEmail());
         return UserDTO.builder()
                 .id(savedUser.getId())
                 .name(savedUser.getName())
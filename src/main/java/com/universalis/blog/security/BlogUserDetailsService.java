@@ -1,19 +1,57 @@
 package com.universalis.blog.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.universalis.blog.domain.user.entities.User;
 import com.universalis.blog.domain.user.repositories.UserRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
-@RequiredArgsConstructor
+import java.time.Duration;
+
 public class BlogUserDetailsService implements UserDetailsService {
 
+    static final String CACHE_NAME = "userDetails";
+
     private final UserRepository userRepository;
 
+    // Bounded by size and age, so a stale entry can outlive a change only if the change skipped evict().
+    private final Cache<String, BlogUserDetails> userDetailsCache;
+
+    public BlogUserDetailsService(UserRepository userRepository, long maximumSize, Duration timeToLive) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userDetailsCache.get(email, this::findUserDetails);
+    }
+
+    /**
+     * Drops the cached entry for the given email. Must be called whenever a user's credentials or identity change.
+     */
+    public void evict(String email) {
+        userDetailsCache.invalidate(email);
+    }
+
+    /**
+     * Publishes the cache's hit, miss, eviction and size counters as {@code cache.*} meters tagged {@code cache=userDetails}.
+     * The {@code cache.manager} tag keeps the tag keys aligned with the Spring-managed catalog caches, as Prometheus requires.
+     */
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, userDetailsCache, CACHE_NAME, Tags.of("cache.manager", "userDetailsService"));
+    }
+
+    private BlogUserDetails findUserDetails(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         return new BlogUserDetails(user);
@@ -0,0 +1,10 @@
+-- Converts post_bodies.content from TEXT to the binary format written by PostBodyCodec (PostgreSQL). Run once,
+-- after split-post-bodies.sql and before starting the version that maps the codec. Existing bodies are stored
+-- uncompressed (marker byte 0) and compressed the next time they are saved.
+BEGIN;
+
+ALTER TABLE post_bodies ALTER COLUMN content TYPE BYTEA USING '\x00'::bytea || convert_to(content, 'UTF8');
+-- Large bodies arrive compressed already; keep TOAST from compressing them a second time
+ALTER TABLE post_bodies ALTER COLUMN content SET STORAGE EXTERNAL;
+
+COMMIT;
@@ -0,0 +1,25 @@
+-- Moves post bodies out of the posts table (PostgreSQL). Run once, before starting the version that maps
+-- Post.body; hibernate.ddl-auto=update cannot move existing data or add a required column to a filled table.
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS post_bodies (
+    id      UUID PRIMARY KEY,
+    content TEXT NOT NULL
+);
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS body_id UUID;
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS excerpt VARCHAR(200);
+
+-- Each body reuses its post's id
+INSERT INTO post_bodies (id, content)
+SELECT id, content FROM posts
+ON CONFLICT (id) DO NOTHING;
+
+UPDATE posts SET body_id = id, excerpt = SUBSTRING(content, 1, 200) WHERE body_id IS NULL;
+
+ALTER TABLE posts ALTER COLUMN body_id SET NOT NULL;
+ALTER TABLE posts ADD CONSTRAINT uk_posts_body_id UNIQUE (body_id);
+ALTER TABLE posts ADD CONSTRAINT fk_posts_body_id FOREIGN KEY (body_id) REFERENCES post_bodies (id);
+ALTER TABLE posts DROP COLUMN content;
+
+COMMIT;
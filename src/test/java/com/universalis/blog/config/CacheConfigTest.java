@@ -0,0 +1,88 @@
+package com.universalis.blog.config;
+
+import com.universalis.blog.domain.category.repositories.CategoryRepository;
+import com.universalis.blog.domain.category.services.CategoryService;
+import com.universalis.blog.domain.category.services.impl.CategoryServiceImpl;
+import com.universalis.blog.domain.common.services.ContentVersions;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.tag.repositories.TagRepository;
+import com.universalis.blog.domain.tag.services.TagService;
+import com.universalis.blog.domain.tag.services.impl.TagServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(CacheConfigTest.TestConfig.class)
+class CacheConfigTest {
+
+    @Configuration
+    @Import({CacheConfig.class, TagServiceImpl.class, CategoryServiceImpl.class, ContentVersions.class})
+    static class TestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.TAGS_CACHE, CacheConfig.CATEGORIES_CACHE);
+        }
+    }
+
+    @MockitoBean
+    private TagRepository tagRepository;
+
+    @MockitoBean
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        when(tagRepository.findAllWithPostCount(PostStatus.PUBLISHED)).thenReturn(List.of());
+        when(categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED)).thenReturn(List.of());
+    }
+
+    @Test
+    void getTagsShouldHitRepositoryOnceUntilTagsChange() {
+        // given
+        when(tagRepository.findByNameIn(Set.of("Java"))).thenReturn(List.of());
+        // when
+        tagService.getTags();
+        tagService.getTags();
+        tagService.createTags(Set.of("Java"));
+        tagService.getTags();
+        // then
+        verify(tagRepository, times(2)).findAllWithPostCount(PostStatus.PUBLISHED);
+    }
+
+    @Test
+    void listCategoriesShouldHitRepositoryOnceUntilCategoryIsDeleted() {
+        // given
+        UUID categoryId = UUID.randomUUID();
+        // when
+        categoryService.listCategories();
+        categoryService.listCategories();
+        categoryService.deleteCategory(categoryId);
+        categoryService.listCategories();
+        // then
+        verify(categoryRepository, times(2)).findAllWithPostCount(PostStatus.PUBLISHED);
+    }
+}
@@ -0,0 +1,40 @@
+package com.universalis.blog.config;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement count assertions for tests that {@code @Import(QueryDiagnosticsConfig.class)}. Counts are kept per
+ * thread since the last {@link #resetQueryCount()}, so call it after the test data has been set up.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void resetQueryCount() {
+        QueryCountHolder.clear();
+    }
+
+    public static void assertSelectCount(int expected) {
+        assertThat(queryCount().getSelect()).as("SELECT statements").isEqualTo(expected);
+    }
+
+    public static void assertInsertCount(int expected) {
+        assertThat(queryCount().getInsert()).as("INSERT statements").isEqualTo(expected);
+    }
+
+    public static void assertUpdateCount(int expected) {
+        assertThat(queryCount().getUpdate()).as("UPDATE statements").isEqualTo(expected);
+    }
+
+    public static void assertDeleteCount(int expected) {
+        assertThat(queryCount().getDelete()).as("DELETE statements").isEqualTo(expected);
+    }
+
+    private static QueryCount queryCount() {
+        return QueryCountHolder.getGrandTotal();
+    }
+}
@@ -0,0 +1,62 @@
+package com.universalis.blog.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestQueryTrackerTest {
+
+    private static final String SELECT_TAGS = "select * from post_tags where post_id=?";
+    private static final String INSERT_POST = "insert into posts values (?)";
+
+    private final RequestQueryTracker tracker = new RequestQueryTracker();
+
+    @Test
+    void repeatedStatementsWithinRequestShouldBeReported() {
+        // given
+        tracker.begin();
+        for (int i = 0; i < 3; i++) {
+            tracker.afterQuery(execution(false, 2), List.of(new QueryInfo(SELECT_TAGS)));
+        }
+        tracker.afterQuery(execution(false, 4), List.of(new QueryInfo("select * from posts")));
+        // when
+        RequestQueryTracker.RequestQueries queries = tracker.end();
+        // then
+        assertThat(queries.getStatementCount()).isEqualTo(4);
+        assertThat(queries.getElapsedMillis()).isEqualTo(10);
+        assertThat(queries.repeatedAtLeast(3)).containsOnlyKeys(SELECT_TAGS);
+    }
+
+    @Test
+    void batchedExecutionsShouldNotCountAsRepeats() {
+        // given
+        tracker.begin();
+        for (int i = 0; i < 3; i++) {
+            tracker.afterQuery(execution(true, 1), List.of(new QueryInfo(INSERT_POST)));
+        }
+        // when
+        RequestQueryTracker.RequestQueries queries = tracker.end();
+        // then
+        assertThat(queries.getStatementCount()).isEqualTo(3);
+        assertThat(queries.repeatedAtLeast(2)).isEmpty();
+    }
+
+    @Test
+    void statementsOutsideRequestShouldBeIgnored() {
+        // when
+        tracker.afterQuery(execution(false, 1), List.of(new QueryInfo(SELECT_TAGS)));
+        // then
+        assertThat(tracker.end()).isNull();
+    }
+
+    private static ExecutionInfo execution(boolean batch, long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setBatch(batch);
+        executionInfo.setElapsedTime(elapsedMillis);
+        return executionInfo;
+    }
+}
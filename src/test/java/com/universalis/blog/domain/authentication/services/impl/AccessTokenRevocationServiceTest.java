@@ -0,0 +1,66 @@
+package com.universalis.blog.domain.authentication.services.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenRevocationServiceTest {
+
+    private AccessTokenRevocationService revocationService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        revocationService = new AccessTokenRevocationService();
+        ReflectionTestUtils.setField(revocationService, "accessTokenExpiration", 900000L);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void isRevokedWithoutLogoutShouldReturnFalse() {
+        // when
+        boolean result = revocationService.isRevoked(userId, new Date());
+        // then
+        assertFalse(result);
+    }
+
+    @Test
+    void isRevokedForTokenIssuedInTheLogoutSecondShouldReturnTrue() {
+        // given
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        // when
+        revocationService.revokeAll(userId);
+        // then
+        assertTrue(revocationService.isRevoked(userId, Date.from(issuedAt)));
+        assertTrue(revocationService.isRevoked(userId, Date.from(issuedAt.minusSeconds(1))));
+    }
+
+    @Test
+    void isRevokedForTokenIssuedAfterTheLogoutSecondShouldReturnFalse() {
+        // given
+        revocationService.revokeAll(userId);
+        Instant issuedAt = Instant.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        // when
+        boolean result = revocationService.isRevoked(userId, Date.from(issuedAt));
+        // then
+        assertFalse(result);
+    }
+
+    @Test
+    void isRevokedForTokenWithoutIssuedAtShouldReturnTrueAfterLogout() {
+        // given
+        revocationService.revokeAll(userId);
+        // when
+        boolean result = revocationService.isRevoked(userId, null);
+        // then
+        assertTrue(result);
+        assertFalse(revocationService.isRevoked(UUID.randomUUID(), null));
+    }
+}
@@ -0,0 +1,263 @@
+package com.universalis.blog.domain.authentication.services.impl;
+
+import com.universalis.blog.domain.authentication.dtos.AuthenticationResponse;
+import com.universalis.blog.domain.authentication.entities.RefreshToken;
+import com.universalis.blog.domain.user.entities.User;
+import com.universalis.blog.domain.user.services.UserService;
+import com.universalis.blog.exceptions.InvalidTokenException;
+import com.universalis.blog.exceptions.TokenExpiredException;
+import com.universalis.blog.security.BlogUserDetails;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationServiceImplTest {
+
+    private static final String SECRET = "bXktMjU2LWJpdC1zZWNyZXQta2V5LWhlcmUtbWFrZS1pdC1hdC1sZWFzdC0zMi1ieXRlcy1sb25n";
+    private static final String EMAIL = "irena.szewinska@example.com";
+    private static final String PASSWORD = "four-hundred-metres";
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private AccessTokenRevocationService accessTokenRevocationService;
+
+    @InjectMocks
+    private AuthenticationServiceImpl authenticationService;
+
+    private BlogUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(authenticationService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(authenticationService, "accessTokenExpiration", 900000L);
+        ReflectionTestUtils.setField(authenticationService, "statelessPrincipal", true);
+        ReflectionTestUtils.setField(authenticationService, "revocationCheck", true);
+        authenticationService.initSigningKey();
+
+        User user = User.builder()
+                .id(UUID.randomUUID())
+                .name("Irena Szewinska")
+                .email(EMAIL)
+                .password("encoded-password")
+                .createdAt(LocalDateTime.now())
+                .build();
+        userDetails = new BlogUserDetails(user);
+    }
+
+    @Test
+    void validateTokenShouldAcceptTokenIssuedByAuthenticate() {
+        // given
+        String token = login();
+        // when
+        UserDetails first = authenticationService.validateToken(token);
+        UserDetails second = authenticationService.validateToken(token);
+        // then
+        assertEquals(EMAIL, first.getUsername());
+        assertEquals(EMAIL, second.getUsername());
+        assertEquals(userDetails.getId(), ((BlogUserDetails) first).getId());
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void validateTokenWithExpiredTokenShouldThrowTokenExpiredException() {
+        // given
+        ReflectionTestUtils.setField(authenticationService, "accessTokenExpiration", -60000L);
+        String token = login();
+        // when
+        Executable result = () -> authenticationService.validateToken(token);
+        // then
+        assertThrows(TokenExpiredException.class, result);
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+        verifyNoInteractions(accessTokenRevocationService);
+    }
+
+    @Test
+    void validateTokenWithMalformedTokenShouldThrowInvalidTokenException() {
+        // when
+        Executable result = () -> authenticationService.validateToken("not.a.jwt");
+        // then
+        assertThrows(InvalidTokenException.class, result);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void validateTokenShouldBuildPrincipalFromClaimsWithoutUserLookup() {
+        // given
+        String token = signedToken(SECRET, Map.of("uid", userDetails.getId().toString(), "roles", List.of("ROLE_USER")));
+        // when
+        UserDetails result = authenticationService.validateToken(token);
+        // then
+        assertEquals(EMAIL, result.getUsername());
+        assertEquals(userDetails.getId(), ((BlogUserDetails) result).getId());
+        assertEquals(List.of("ROLE_USER"), result.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void validateTokenWithStatelessPrincipalDisabledShouldLoadUser() {
+        // given
+        ReflectionTestUtils.setField(authenticationService, "statelessPrincipal", false);
+        String token = login();
+        // when
+        UserDetails result = authenticationService.validateToken(token);
+        // then
+        assertSame(userDetails, result);
+        verify(userDetailsService, times(2)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void validateTokenSignedWithAnotherKeyShouldThrowInvalidTokenException() {
+        // given
+        String otherSecret = Base64.getEncoder().encodeToString("another-256-bit-secret-key-of-at-least-32-bytes".getBytes());
+        String token = signedToken(otherSecret, Map.of("uid", userDetails.getId().toString(), "roles", List.of("ROLE_ADMIN")));
+        // when
+        Executable result = () -> authenticationService.validateToken(token);
+        // then
+        assertThrows(InvalidTokenException.class, result);
+        verifyNoInteractions(userDetailsService, accessTokenRevocationService);
+    }
+
+    @Test
+    void validateTokenWithTamperedClaimsShouldThrowInvalidTokenException() {
+        // given
+        String[] parts = login().split("\\.");
+        String forgedClaims = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                ("{\"sub\":\"" + EMAIL + "\",\"uid\":\"" + userDetails.getId() + "\",\"roles\":[\"ROLE_ADMIN\"]}").getBytes());
+        String token = parts[0] + "." + forgedClaims + "." + parts[2];
+        // when
+        Executable result = () -> authenticationService.validateToken(token);
+        // then
+        assertThrows(InvalidTokenException.class, result);
+        verifyNoInteractions(accessTokenRevocationService);
+    }
+
+    @Test
+    void validateTokenWithoutSubjectShouldThrowInvalidTokenException() {
+        // given
+        String token = Jwts.builder()
+                .setClaims(Map.of("uid", userDetails.getId().toString()))
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(key(SECRET), SignatureAlgorithm.HS256)
+                .compact();
+        // when
+        Executable result = () -> authenticationService.validateToken(token);
+        // then
+        assertThrows(InvalidTokenException.class, result);
+    }
+
+    @Test
+    void validateTokenWithMalformedUserIdShouldThrowInvalidTokenException() {
+        // given
+        String token = signedToken(SECRET, Map.of("uid", "not-a-uuid"));
+        // when
+        Executable result = () -> authenticationService.validateToken(token);
+        // then
+        assertThrows(InvalidTokenException.class, result);
+    }
+
+    @Test
+    void validateTokenWithoutUserIdOrRolesShouldFallBackToUserLookup() {
+        // given
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(userDetails);
+        String token = signedToken(SECRET, Map.of());
+        // when
+        UserDetails result = authenticationService.validateToken(token);
+        // then
+        assertSame(userDetails, result);
+        verifyNoInteractions(accessTokenRevocationService);
+    }
+
+    @Test
+    void validateTokenRevokedByLogoutShouldThrowInvalidTokenException() {
+        // given
+        String token = login();
+        when(accessTokenRevocationService.isRevoked(eq(userDetails.getId()), any())).thenReturn(true);
+        // when
+        Executable result = () -> authenticationService.validateToken(token);
+        // then
+        assertThrows(InvalidTokenException.class, result);
+    }
+
+    @Test
+    void validateTokenIssuedAfterRevocationShouldBeAccepted() {
+        // given
+        AccessTokenRevocationService revocations = new AccessTokenRevocationService();
+        ReflectionTestUtils.setField(revocations, "accessTokenExpiration", 900000L);
+        ReflectionTestUtils.setField(authenticationService, "accessTokenRevocationService", revocations);
+        String revokedToken = signedToken(SECRET, Map.of("uid", userDetails.getId().toString()), new Date(System.currentTimeMillis() - 5000));
+        revocations.revokeAll(userDetails.getId());
+        String freshToken = signedToken(SECRET, Map.of("uid", userDetails.getId().toString()), new Date(System.currentTimeMillis() + 2000));
+        // when
+        Executable revoked = () -> authenticationService.validateToken(revokedToken);
+        UserDetails result = authenticationService.validateToken(freshToken);
+        // then
+        assertThrows(InvalidTokenException.class, revoked);
+        assertEquals(EMAIL, result.getUsername());
+    }
+
+    private String login() {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(userDetails);
+        when(refreshTokenService.createRefreshToken(any())).thenReturn(RefreshToken.builder()
+                .token(UUID.randomUUID().toString())
+                .build());
+        AuthenticationResponse response = authenticationService.authenticate(EMAIL, PASSWORD);
+        return response.getAccessToken();
+    }
+
+    private String signedToken(String secret, Map<String, Object> claims) {
+        return signedToken(secret, claims, new Date());
+    }
+
+    private String signedToken(String secret, Map<String, Object> claims, Date issuedAt) {
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject(EMAIL)
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(System.currentTimeMillis() + 60000))
+                .signWith(key(secret), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static Key key(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+}
@@ -112,6 +112,29 @@ class CategoryControllerIntegrationTest {
                 .andExpect(jsonPath("$[*].postCount", everyItem(is(0))));
     }
 
+    @Test
+    @WithMockUser
+    void listCategoriesWithMatchingETagShouldReturnNotModified() throws Exception {
+        // given
+        MvcResult firstResult = mockMvc.perform(get("/api/v1/categories")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", containsString("max-age")))
+                .andReturn();
+        String eTag = firstResult.getResponse().getHeader("ETag");
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v1/categories")
+                        .header("If-None-Match", eTag)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print());
+        // then
+        result
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser
     void listCategoriesWithPostsShouldReturnCorrectPostCounts() throws Exception {
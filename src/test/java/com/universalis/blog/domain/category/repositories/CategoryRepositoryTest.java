@@ -1,5 +1,7 @@
 package com.universalis.blog.domain.category.repositories;
 
+import com.universalis.blog.config.QueryDiagnosticsConfig;
+import com.universalis.blog.domain.category.dtos.CategoryWithPostCount;
 import com.universalis.blog.domain.category.entities.Category;
 import com.universalis.blog.domain.post.entities.Post;
 import com.universalis.blog.domain.post.entities.PostStatus;
@@ -9,15 +11,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static com.universalis.blog.config.QueryCountAssertions.assertSelectCount;
+import static com.universalis.blog.config.QueryCountAssertions.resetQueryCount;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
+@Import(QueryDiagnosticsConfig.class)
 @ActiveProfiles("test")
 class CategoryRepositoryTest {
 
@@ -56,7 +62,7 @@ class CategoryRepositoryTest {
     }
 
     @Test
-    void findAllWithPostsShouldReturnCategoriesWithPosts() {
+    void findAllWithPostCountShouldCountPublishedPostsPerCategory() {
         // given
         entityManager.persistAndFlush(testAuthor);
         entityManager.persistAndFlush(technologyCategory);
@@ -71,41 +77,44 @@ class CategoryRepositoryTest {
         entityManager.persistAndFlush(healthPost);
         entityManager.clear();
         // when
-        List<Category> categories = categoryRepository.findAllWithPosts();
+        List<CategoryWithPostCount> categories = categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED);
         // then
         assertThat(categories).hasSize(3);
-        // Verify posts are eagerly loaded (accessing the collection shouldn't throw LazyInitializationException)
-        Category techCategory = categories.stream()
-                .filter(c -> c.getName().equals("Technology"))
-                .findFirst()
-                .orElseThrow();
-        // Verify posts collection is accessible and contains the correct number of posts
-        assertThat(techCategory.getPosts()).hasSize(2);
-        // Verify health category has one post
-        Category healthCat = categories.stream()
-                .filter(c -> c.getName().equals("Health"))
-                .findFirst()
-                .orElseThrow();
-        assertThat(healthCat.getPosts()).hasSize(1);
-        // Verify empty category has no posts (LEFT JOIN should still include it)
-        Category emptyCat = categories.stream()
-                .filter(c -> c.getName().equals("Empty Category"))
-                .findFirst()
-                .orElseThrow();
-        assertThat(emptyCat.getPosts()).isEmpty();
+        assertThat(postCountOf(categories, "Technology")).isEqualTo(2);
+        assertThat(postCountOf(categories, "Health")).isEqualTo(1);
+        // Empty category is still listed (LEFT JOIN) with a zero count
+        assertThat(postCountOf(categories, "Empty Category")).isZero();
     }
 
     @Test
     void findAllWithPostCountShouldReturnEmptyListWhenNoCategoriesExist() {
         // When
-        List<Category> categories = categoryRepository.findAllWithPosts();
+        List<CategoryWithPostCount> categories = categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED);
         // Then
         assertThat(categories).isNotNull();
         assertThat(categories).isEmpty();
     }
 
     @Test
-    void findAllWithPostsShouldAvoidNPlusOneQueryProblem() {
+    void findAllWithPostCountShouldIgnorePostsWithOtherStatus() {
+        // given
+        entityManager.persistAndFlush(testAuthor);
+        entityManager.persistAndFlush(technologyCategory);
+        entityManager.persistAndFlush(createPost("Published", technologyCategory, testAuthor));
+        Post draft = createPost("Draft", technologyCategory, testAuthor);
+        draft.setStatus(PostStatus.DRAFT);
+        entityManager.persistAndFlush(draft);
+        entityManager.clear();
+        // when
+        List<CategoryWithPostCount> published = categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED);
+        List<CategoryWithPostCount> drafts = categoryRepository.findAllWithPostCount(PostStatus.DRAFT);
+        // then
+        assertThat(postCountOf(published, "Technology")).isEqualTo(1);
+        assertThat(postCountOf(drafts, "Technology")).isEqualTo(1);
+    }
+
+    @Test
+    void findAllWithPostCountShouldCountEveryCategoryInSingleQuery() {
         entityManager.persistAndFlush(testAuthor);
 
         for (int i = 0; i < 5; i++) {
@@ -121,21 +130,17 @@ class CategoryRepositoryTest {
             entityManager.persistAndFlush(post2);
         }
         entityManager.clear();
+        resetQueryCount();
         // when
-        List<Category> categories = categoryRepository.findAllWithPosts();
+        List<CategoryWithPostCount> categories = categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED);
         // then
         assertThat(categories).hasSize(5);
-        // All posts should be accessible without additional queries
-        // If N+1 problem existed, accessing posts would trigger lazy loading
-        categories.forEach(category -> {
-            assertThat(category.getPosts()).hasSize(2);
-            // Access posts field to ensure they're fully loaded
-            category.getPosts().forEach(post -> assertThat(post.getTitle()).isNotNull());
-        });
+        assertThat(categories).allSatisfy(category -> assertThat(category.getPostCount()).isEqualTo(2));
+        assertSelectCount(1);
     }
 
     @Test
-    void findAllWithPostsShouldHandleMultiplePostsCorrectly() {
+    void findAllWithPostCountShouldHandleMultiplePostsCorrectly() {
         // given
         entityManager.persistAndFlush(testAuthor);
         entityManager.persistAndFlush(technologyCategory);
@@ -146,10 +151,10 @@ class CategoryRepositoryTest {
         }
         entityManager.clear();
         // when
-        List<Category> categories = categoryRepository.findAllWithPosts();
+        List<CategoryWithPostCount> categories = categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED);
         // then
         assertThat(categories).hasSize(1);
-        assertThat(categories.getFirst().getPosts()).hasSize(10);
+        assertThat(categories.getFirst().getPostCount()).isEqualTo(10);
     }
 
     @Test
@@ -200,6 +205,14 @@ class CategoryRepositoryTest {
         assertFalse(categoryRepository.existsByNameIgnoreCase(""));
     }
 
+    private long postCountOf(List<CategoryWithPostCount> categories, String name) {
+        return categories.stream()
+                .filter(c -> c.getName().equals(name))
+                .findFirst()
+                .orElseThrow()
+                .getPostCount();
+    }
+
     /**
      * Helper method to create a Post entity with required fields.
      *
@@ -1,8 +1,11 @@
 package com.universalis.blog.domain.category.services.impl;
 
+import com.universalis.blog.domain.category.dtos.CategoryWithPostCount;
 import com.universalis.blog.domain.category.entities.Category;
 import com.universalis.blog.domain.category.repositories.CategoryRepository;
+import com.universalis.blog.domain.common.services.ContentVersions;
 import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,9 @@ class CategoryServiceImplTest {
     @Mock
     CategoryRepository categoryRepository;
 
+    @Mock
+    ContentVersions contentVersions;
+
     private Category testCategory;
     private UUID testCategoryId;
 
@@ -48,32 +54,29 @@ class CategoryServiceImplTest {
     @Test
     void listCategoriesShouldReturnAllCategories() {
         // given
-        Category category2 = Category.builder()
-                .id(UUID.randomUUID())
-                .name("Science")
-                .posts(new ArrayList<>())
-                .build();
-        List<Category> expectedCategories = List.of(testCategory, category2);
-        when(categoryRepository.findAllWithPosts()).thenReturn(expectedCategories);
+        CategoryWithPostCount technology = mock(CategoryWithPostCount.class);
+        CategoryWithPostCount science = mock(CategoryWithPostCount.class);
+        List<CategoryWithPostCount> expectedCategories = List.of(technology, science);
+        when(categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED)).thenReturn(expectedCategories);
         // when
-        List<Category> result = categoryService.listCategories();
+        List<CategoryWithPostCount> result = categoryService.listCategories();
         // then
         assertNotNull(result, "Result should not be null");
         assertEquals(2, result.size(), "Should return exactly 2 categories");
         assertEquals(expectedCategories, result, "Should return the same list from repository");
-        verify(categoryRepository, times(1)).findAllWithPosts();
+        verify(categoryRepository, times(1)).findAllWithPostCount(PostStatus.PUBLISHED);
     }
 
     @Test
     void listCategoriesShouldReturnEmptyListWhenNoCategoriesExist() {
         // given
-        when(categoryRepository.findAllWithPosts()).thenReturn(new ArrayList<>());
+        when(categoryRepository.findAllWithPostCount(PostStatus.PUBLISHED)).thenReturn(new ArrayList<>());
         // when
-        List<Category> result = categoryService.listCategories();
+        List<CategoryWithPostCount> result = categoryService.listCategories();
         // then
         assertNotNull(result, "Result should not be null");
         assertTrue(result.isEmpty(), "Result should be an empty list");
-        verify(categoryRepository, times(1)).findAllWithPosts();
+        verify(categoryRepository, times(1)).findAllWithPostCount(PostStatus.PUBLISHED);
     }
 
     @Test
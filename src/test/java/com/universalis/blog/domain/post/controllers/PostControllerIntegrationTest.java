@@ -0,0 +1,134 @@
+package com.universalis.blog.domain.post.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.category.repositories.CategoryRepository;
+import com.universalis.blog.domain.post.dtos.CreatePostRequest;
+import com.universalis.blog.domain.post.dtos.UpdatePostRequestDTO;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.services.PostService;
+import com.universalis.blog.domain.user.entities.User;
+import com.universalis.blog.domain.user.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Not @Transactional: the update has to be committed the way a real request commits it
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PostControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private Category category;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .email("etag." + UUID.randomUUID() + "@example.com")
+                .password("password123")
+                .name("ETag author")
+                .createdAt(LocalDateTime.now())
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("ETag " + UUID.randomUUID().toString().substring(0, 8))
+                .posts(new ArrayList<>())
+                .build());
+        post = postService.createPost(author, CreatePostRequest.builder()
+                .title("Long read")
+                .content("a".repeat(250) + " final sentence with a tpyo.")
+                .categoryId(category.getId())
+                .status(PostStatus.PUBLISHED)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postService.deletePost(post.getId());
+        categoryRepository.delete(category);
+        userRepository.delete(author);
+    }
+
+    @Test
+    @WithMockUser
+    void editingBodyAfterExcerptShouldChangeETag() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/v1/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        UpdatePostRequestDTO typoFix = UpdatePostRequestDTO.builder()
+                .id(post.getId())
+                .title("Long read")
+                .content("a".repeat(250) + " final sentence with a typo.")
+                .categoryId(category.getId())
+                .status(PostStatus.PUBLISHED)
+                .build();
+        // when
+        mockMvc.perform(put("/api/v1/posts/{id}", post.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(typoFix)))
+                .andExpect(status().isOk());
+        // then
+        String newETag = mockMvc.perform(get("/api/v1/posts/{id}", post.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void everyReadOfPublishedPostShouldCountAsViewIncludingRevalidations() throws Exception {
+        // given
+        String eTag = mockMvc.perform(get("/api/v1/posts/{id}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(1))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // when
+        mockMvc.perform(get("/api/v1/posts/{id}", post.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        // then
+        mockMvc.perform(get("/api/v1/posts/{id}/views", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.viewCount").value(2));
+    }
+}
@@ -0,0 +1,142 @@
+package com.universalis.blog.domain.post.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.category.repositories.CategoryRepository;
+import com.universalis.blog.domain.post.dtos.CreatePostRequestDTO;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.tag.entities.Tag;
+import com.universalis.blog.domain.tag.repositories.TagRepository;
+import com.universalis.blog.domain.user.entities.User;
+import com.universalis.blog.domain.user.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class PostImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+    private Category category;
+    private Tag tag;
+
+    @BeforeEach
+    void setUp() {
+        postRepository.deleteAll();
+        author = userRepository.save(User.builder()
+                .email("importer@example.com")
+                .password("password123")
+                .name("importer")
+                .createdAt(LocalDateTime.now())
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("Archive")
+                .posts(new ArrayList<>())
+                .build());
+        tag = tagRepository.save(Tag.builder()
+                .name("Imported")
+                .posts(new HashSet<>())
+                .build());
+    }
+
+    @Test
+    @WithMockUser
+    void importJsonArrayShouldCreateValidPostsAndReportRejectedOnes() throws Exception {
+        // given
+        List<CreatePostRequestDTO> posts = List.of(
+                createRequest("First archived post", category.getId(), Set.of(tag.getId())),
+                createRequest("Unknown category", UUID.randomUUID(), Set.of()),
+                createRequest("", category.getId(), Set.of()));
+        // when
+        ResultActions result = mockMvc.perform(post("/api/v1/posts/import")
+                        .requestAttr("userId", author.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(posts)))
+                .andDo(print());
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.failed", is(2)))
+                .andExpect(jsonPath("$.results[0].id", notNullValue()))
+                .andExpect(jsonPath("$.results[1].error", startsWith("Category not found")))
+                .andExpect(jsonPath("$.results[2].error", containsString("title")));
+        assertThat(postRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser
+    void importNdjsonShouldReportMalformedLinesAndContinue() throws Exception {
+        // given
+        String ndjson = objectMapper.writeValueAsString(createRequest("First line post", category.getId(), Set.of()))
+                + "\n{not json\n\n"
+                + objectMapper.writeValueAsString(createRequest("Third line post", category.getId(), Set.of()))
+                + "\n";
+        // when
+        ResultActions result = mockMvc.perform(post("/api/v1/posts/import")
+                        .requestAttr("userId", author.getId())
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andDo(print());
+        // then
+        result
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[1].error", startsWith("Malformed JSON")));
+        assertThat(postRepository.count()).isEqualTo(2);
+    }
+
+    private CreatePostRequestDTO createRequest(String title, UUID categoryId, Set<UUID> tagIds) {
+        return CreatePostRequestDTO.builder()
+                .title(title)
+                .content("Content long enough to pass validation")
+                .categoryId(categoryId)
+                .tagIds(new HashSet<>(tagIds))
+                .status(PostStatus.PUBLISHED)
+                .build();
+    }
+}
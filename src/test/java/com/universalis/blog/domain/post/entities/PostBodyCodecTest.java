@@ -0,0 +1,72 @@
+package com.universalis.blog.domain.post.entities;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostBodyCodecTest {
+
+    private final PostBodyCodec codec = new PostBodyCodec(true, 2048);
+
+    @Test
+    void shortBodyShouldBeStoredRaw() {
+        // when
+        byte[] stored = codec.convertToDatabaseColumn("Zażółć gęślą jaźń");
+        // then
+        assertThat(stored[0]).isEqualTo(PostBodyCodec.RAW);
+        assertThat(codec.convertToEntityAttribute(stored)).isEqualTo("Zażółć gęślą jaźń");
+    }
+
+    @Test
+    void longBodyShouldBeCompressedAndRestored() {
+        // given
+        String content = "Long-form post about Spring, Java and Łódź. ".repeat(1000);
+        // when
+        byte[] stored = codec.convertToDatabaseColumn(content);
+        // then
+        assertThat(stored[0]).isEqualTo(PostBodyCodec.DEFLATE);
+        assertThat(stored.length).isLessThan(content.length() / 10);
+        assertThat(codec.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    void poorlyCompressibleBodyShouldNeverBeStoredLargerThanRaw() {
+        // given
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < 4096) {
+            builder.appendCodePoint(0x4E00 + random.nextInt(20000));
+        }
+        String content = builder.toString();
+        // when
+        byte[] stored = codec.convertToDatabaseColumn(content);
+        // then
+        assertThat(codec.convertToEntityAttribute(stored)).isEqualTo(content);
+        assertThat(stored.length).isLessThanOrEqualTo(content.getBytes(StandardCharsets.UTF_8).length + 1);
+    }
+
+    @Test
+    void bodiesWrittenWithOtherSettingsShouldStillBeReadable() {
+        // given
+        String content = "x".repeat(10_000);
+        byte[] compressed = codec.convertToDatabaseColumn(content);
+        PostBodyCodec disabled = new PostBodyCodec(false, 2048);
+        // when
+        byte[] raw = disabled.convertToDatabaseColumn(content);
+        // then
+        assertThat(raw[0]).isEqualTo(PostBodyCodec.RAW);
+        assertThat(disabled.convertToEntityAttribute(compressed)).isEqualTo(content);
+        assertThat(codec.convertToEntityAttribute(raw)).isEqualTo(content);
+    }
+
+    @Test
+    void unknownMarkerShouldBeRejected() {
+        // when / then
+        assertThatThrownBy(() -> codec.convertToEntityAttribute(new byte[]{7, 1, 2}))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
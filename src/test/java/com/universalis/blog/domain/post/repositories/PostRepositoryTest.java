@@ -0,0 +1,402 @@
+package com.universalis.blog.domain.post.repositories;
+
+import com.universalis.blog.config.QueryDiagnosticsConfig;
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.post.dtos.PostCursor;
+import com.universalis.blog.domain.post.dtos.PostDTO;
+import com.universalis.blog.domain.post.dtos.PostFacetView;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.PostSort;
+import com.universalis.blog.domain.post.dtos.PostSummaryView;
+import com.universalis.blog.domain.post.dtos.PostTagIdView;
+import com.universalis.blog.domain.post.dtos.PostTagNameView;
+import com.universalis.blog.domain.post.dtos.TagMatchMode;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.mappers.PostMapper;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.tag.dtos.TagDTO;
+import com.universalis.blog.domain.tag.entities.Tag;
+import com.universalis.blog.domain.user.entities.User;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.universalis.blog.config.QueryCountAssertions.assertSelectCount;
+import static com.universalis.blog.config.QueryCountAssertions.resetQueryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QueryDiagnosticsConfig.class)
+@ActiveProfiles("test")
+class PostRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private final PostMapper postMapper = Mappers.getMapper(PostMapper.class);
+
+    private User testAuthor;
+    private Category technologyCategory;
+    private Category travelCategory;
+    private Tag javaTag;
+
+    @BeforeEach
+    void setUp() {
+        testAuthor = User.builder()
+                .name("Robert Kubica")
+                .email("robert.kubica@example.com")
+                .password("pit-stop-password")
+                .createdAt(LocalDateTime.now())
+                .build();
+        technologyCategory = Category.builder()
+                .name("Technology")
+                .build();
+        travelCategory = Category.builder()
+                .name("Travel")
+                .build();
+        javaTag = Tag.builder()
+                .name("Java")
+                .build();
+        entityManager.persistAndFlush(testAuthor);
+        entityManager.persistAndFlush(technologyCategory);
+        entityManager.persistAndFlush(travelCategory);
+        entityManager.persistAndFlush(javaTag);
+    }
+
+    @Test
+    void keysetPagesShouldCoverAllPublishedPostsExactlyOnceInOrder() {
+        // given
+        for (int i = 0; i < 7; i++) {
+            entityManager.persistAndFlush(createPost("Post " + i, technologyCategory, PostStatus.PUBLISHED, Set.of()));
+        }
+        entityManager.persistAndFlush(createPost("Draft", technologyCategory, PostStatus.DRAFT, Set.of()));
+        entityManager.clear();
+        PostFilter filter = PostFilter.builder().build();
+        // when
+        List<PostSummaryView> collected = new ArrayList<>();
+        List<PostSummaryView> page = listing(filter, null, 3);
+        while (!page.isEmpty()) {
+            collected.addAll(page);
+            PostSummaryView last = page.getLast();
+            page = listing(filter, new PostCursor(last.getCreatedAt(), last.getId()), 3);
+        }
+        // then
+        assertThat(collected).hasSize(7);
+        assertThat(collected).extracting(PostSummaryView::getId).doesNotHaveDuplicates();
+        assertThat(collected).isSortedAccordingTo(Comparator.comparing(PostSummaryView::getCreatedAt).reversed());
+    }
+
+    @Test
+    void listingShouldApplyCategoryAndTagFilters() {
+        // given
+        Tag springTag = Tag.builder()
+                .name("Spring")
+                .build();
+        entityManager.persistAndFlush(springTag);
+        Post taggedTechPost = createPost("Java records", technologyCategory, PostStatus.PUBLISHED, Set.of(javaTag));
+        Post bothTagsTechPost = createPost("Spring Boot", technologyCategory, PostStatus.PUBLISHED,
+                Set.of(javaTag, springTag));
+        Post untaggedTechPost = createPost("Laptops", technologyCategory, PostStatus.PUBLISHED, Set.of());
+        Post taggedTravelPost = createPost("Java island", travelCategory, PostStatus.PUBLISHED, Set.of(javaTag));
+        entityManager.persistAndFlush(taggedTechPost);
+        entityManager.persistAndFlush(bothTagsTechPost);
+        entityManager.persistAndFlush(untaggedTechPost);
+        entityManager.persistAndFlush(taggedTravelPost);
+        entityManager.clear();
+        Set<UUID> bothTags = Set.of(javaTag.getId(), springTag.getId());
+        // when
+        List<PostSummaryView> byCategory = listing(PostFilter.builder()
+                .categoryId(technologyCategory.getId())
+                .build(), null, 10);
+        List<PostSummaryView> byAnyTag = listing(PostFilter.builder()
+                .tagIds(bothTags)
+                .tagMatchMode(TagMatchMode.ANY)
+                .build(), null, 10);
+        List<PostSummaryView> byAllTags = listing(PostFilter.builder()
+                .tagIds(bothTags)
+                .tagMatchMode(TagMatchMode.ALL)
+                .build(), null, 10);
+        List<PostSummaryView> byCategoryAndTag = listing(PostFilter.builder()
+                .categoryId(travelCategory.getId())
+                .tagIds(Set.of(javaTag.getId()))
+                .build(), null, 10);
+        // then
+        assertThat(byCategory).extracting(PostSummaryView::getId).containsExactlyInAnyOrder(
+                taggedTechPost.getId(), bothTagsTechPost.getId(), untaggedTechPost.getId());
+        assertThat(byAnyTag).extracting(PostSummaryView::getId).containsExactlyInAnyOrder(
+                taggedTechPost.getId(), bothTagsTechPost.getId(), taggedTravelPost.getId());
+        assertThat(byAllTags).extracting(PostSummaryView::getId).containsExactly(bothTagsTechPost.getId());
+        assertThat(byCategoryAndTag).extracting(PostSummaryView::getId).containsExactly(taggedTravelPost.getId());
+    }
+
+    @Test
+    void listingShouldFilterByAuthorAndCreationTimeAndSortOldestFirst() {
+        // given
+        User otherAuthor = User.builder()
+                .name("Justyna Kowalczyk")
+                .email("justyna.kowalczyk@example.com")
+                .password("cross-country-password")
+                .createdAt(LocalDateTime.now())
+                .build();
+        entityManager.persistAndFlush(otherAuthor);
+        LocalDateTime start = LocalDateTime.of(2025, 11, 1, 12, 0);
+        Post first = createdAt(createPost("First", technologyCategory, PostStatus.PUBLISHED, Set.of()), start.plusMinutes(1));
+        Post second = createdAt(createPost("Second", technologyCategory, PostStatus.PUBLISHED, Set.of()), start.plusMinutes(2));
+        Post third = createdAt(createPost("Third", technologyCategory, PostStatus.PUBLISHED, Set.of()), start.plusMinutes(3));
+        createdAt(createPost("Too late", technologyCategory, PostStatus.PUBLISHED, Set.of()), start.plusMinutes(4));
+        Post byOtherAuthor = createPost("Other author", technologyCategory, PostStatus.PUBLISHED, Set.of());
+        byOtherAuthor.setAuthor(otherAuthor);
+        createdAt(byOtherAuthor, start.plusMinutes(2));
+        entityManager.clear();
+        PostFilter filter = PostFilter.builder()
+                .authorId(testAuthor.getId())
+                .createdFrom(start.plusMinutes(1))
+                .createdTo(start.plusMinutes(4))
+                .sort(PostSort.OLDEST)
+                .build();
+        // when
+        List<PostSummaryView> firstPage = listing(filter, null, 2);
+        List<PostSummaryView> secondPage = listing(filter, new PostCursor(start.plusMinutes(2), second.getId()), 2);
+        // then
+        assertThat(firstPage).extracting(PostSummaryView::getId).containsExactly(first.getId(), second.getId());
+        assertThat(secondPage).extracting(PostSummaryView::getId).containsExactly(third.getId());
+    }
+
+    @Test
+    void pageAfterLastPostShouldBeEmpty() {
+        // given
+        Post post = createPost("Only post", technologyCategory, PostStatus.PUBLISHED, Set.of());
+        entityManager.persistAndFlush(post);
+        entityManager.clear();
+        // when
+        List<PostSummaryView> page = listing(PostFilter.builder().build(),
+                new PostCursor(post.getCreatedAt(), post.getId()), 10);
+        // then
+        assertThat(page).isEmpty();
+    }
+
+    @Test
+    void listingShouldReadPageInSingleStatement() {
+        // given
+        entityManager.persistAndFlush(createPost("Java records", technologyCategory, PostStatus.PUBLISHED, Set.of(javaTag)));
+        entityManager.persistAndFlush(createPost("Java island", travelCategory, PostStatus.PUBLISHED, Set.of(javaTag)));
+        entityManager.clear();
+        resetQueryCount();
+        // when
+        List<PostSummaryView> page = listing(PostFilter.builder()
+                .tagIds(Set.of(javaTag.getId()))
+                .build(), null, 10);
+        // then
+        assertThat(page).extracting(PostSummaryView::getAuthorName).containsOnly("Robert Kubica");
+        assertThat(page).extracting(PostSummaryView::getCategoryName).containsExactlyInAnyOrder("Technology", "Travel");
+        assertSelectCount(1);
+    }
+
+    @Test
+    void facetRowsShouldCoverPublishedPostsOnly() {
+        // given
+        Post taggedTechPost = createPost("Java records", technologyCategory, PostStatus.PUBLISHED, Set.of(javaTag));
+        Post untaggedTravelPost = createPost("Lisbon", travelCategory, PostStatus.PUBLISHED, Set.of());
+        Post taggedDraft = createPost("Draft", technologyCategory, PostStatus.DRAFT, Set.of(javaTag));
+        entityManager.persistAndFlush(taggedTechPost);
+        entityManager.persistAndFlush(untaggedTravelPost);
+        entityManager.persistAndFlush(taggedDraft);
+        entityManager.clear();
+        // when
+        List<PostFacetView> facets = postRepository.findFacetsByStatus(PostStatus.PUBLISHED);
+        List<PostTagIdView> tagIds = postRepository.findTagIdsByStatus(PostStatus.PUBLISHED);
+        // then
+        assertThat(facets).extracting(PostFacetView::getId)
+                .containsExactlyInAnyOrder(taggedTechPost.getId(), untaggedTravelPost.getId());
+        assertThat(facets).extracting(PostFacetView::getAuthorId).containsOnly(testAuthor.getId());
+        assertThat(tagIds).singleElement().satisfies(row -> {
+            assertThat(row.getPostId()).isEqualTo(taggedTechPost.getId());
+            assertThat(row.getTagId()).isEqualTo(javaTag.getId());
+        });
+    }
+
+    @Test
+    void summariesByIdsShouldSkipDrafts() {
+        // given
+        Post post = createPost("Published", technologyCategory, PostStatus.PUBLISHED, Set.of());
+        Post draft = createPost("Draft", technologyCategory, PostStatus.DRAFT, Set.of());
+        entityManager.persistAndFlush(post);
+        entityManager.persistAndFlush(draft);
+        entityManager.clear();
+        // when
+        List<PostSummaryView> rows = postRepository.findSummariesByIds(PostStatus.PUBLISHED,
+                List.of(post.getId(), draft.getId()));
+        // then
+        assertThat(rows).extracting(PostSummaryView::getId).containsExactly(post.getId());
+    }
+
+    @Test
+    void streamAllByStatusShouldReturnPublishedPostsOldestFirstWithAuthorAndCategory() {
+        // given
+        Post older = createPost("Older", technologyCategory, PostStatus.PUBLISHED, Set.of());
+        Post newer = createPost("Newer", travelCategory, PostStatus.PUBLISHED, Set.of());
+        entityManager.persistAndFlush(older);
+        entityManager.persistAndFlush(newer);
+        entityManager.persistAndFlush(createPost("Draft", technologyCategory, PostStatus.DRAFT, Set.of()));
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+        // when
+        List<String> exported;
+        try (Stream<Post> posts = postRepository.streamAllByStatus(PostStatus.PUBLISHED)) {
+            exported = posts.map(post -> post.getTitle() + "/" + post.getAuthor().getName() + "/" + post.getCategory().getName())
+                    .toList();
+        }
+        // then
+        assertThat(exported).containsExactly("Older/Robert Kubica/Technology", "Newer/Robert Kubica/Travel");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByIdShouldNotLoadBodyUntilContentIsRead() {
+        // given
+        Post post = createPost("Lazy body", technologyCategory, PostStatus.PUBLISHED, Set.of(javaTag));
+        entityManager.persistAndFlush(post);
+        entityManager.clear();
+        resetQueryCount();
+        // when
+        Post loaded = postRepository.findById(post.getId()).orElseThrow();
+        // then
+        assertThat(Hibernate.isInitialized(loaded.getBody())).isFalse();
+        assertSelectCount(1);
+        assertThat(loaded.getContent()).isEqualTo("Sample content for Lazy body");
+        assertSelectCount(2);
+    }
+
+    @Test
+    void summariesShouldCarryNamesAndTruncatedExcerpt() {
+        // given
+        Post post = createPost("Long read", technologyCategory, PostStatus.PUBLISHED, Set.of(javaTag));
+        post.setContent("x".repeat(5000));
+        entityManager.persistAndFlush(post);
+        entityManager.clear();
+        // when
+        List<PostSummaryView> page = postRepository.findSummariesByIds(PostStatus.PUBLISHED, List.of(post.getId()));
+        List<PostTagNameView> tagNames = postRepository.findTagNamesByPostIds(List.of(post.getId()));
+        // then
+        assertThat(page).hasSize(1);
+        PostSummaryView summary = page.getFirst();
+        assertThat(summary.getExcerpt()).hasSize(200);
+        assertThat(summary.getAuthorName()).isEqualTo("Robert Kubica");
+        assertThat(summary.getCategoryName()).isEqualTo("Technology");
+        assertThat(tagNames).extracting(PostTagNameView::getTagName).containsExactly("Java");
+    }
+
+    @Test
+    void mappingDraftListingShouldIssueConstantNumberOfStatementsRegardlessOfPostCount() {
+        // given
+        Tag springTag = Tag.builder()
+                .name("Spring")
+                .build();
+        entityManager.persistAndFlush(springTag);
+        // when
+        long statementsForTwoPosts = countStatementsForDraftListing(2, Set.of(javaTag, springTag));
+        long statementsForTwelvePosts = countStatementsForDraftListing(10, Set.of(javaTag, springTag));
+        // then
+        assertThat(statementsForTwelvePosts).isEqualTo(statementsForTwoPosts);
+    }
+
+    @Test
+    void findWithDetailsByIdShouldLoadPostInSingleStatement() {
+        // given
+        Post post = createPost("Detailed", technologyCategory, PostStatus.PUBLISHED, Set.of(javaTag));
+        entityManager.persistAndFlush(post);
+        entityManager.clear();
+        resetQueryCount();
+        // when
+        PostDTO postDTO = postMapper.toDTO(postRepository.findWithDetailsById(post.getId()).orElseThrow());
+        // then
+        assertThat(postDTO.getAuthor().getName()).isEqualTo("Robert Kubica");
+        assertThat(postDTO.getCategory().getName()).isEqualTo("Technology");
+        assertThat(postDTO.getTags()).extracting(TagDTO::getName).containsExactly("Java");
+        assertSelectCount(1);
+    }
+
+    /**
+     * Persists additional drafts, then loads and maps every draft of the author to DTOs.
+     *
+     * @param additionalDrafts Number of drafts to add before loading
+     * @param tags Tags attached to every new draft
+     * @return Number of JDBC statements prepared while loading and mapping
+     */
+    private long countStatementsForDraftListing(int additionalDrafts, Set<Tag> tags) {
+        for (int i = 0; i < additionalDrafts; i++) {
+            entityManager.persist(createPost("Draft " + i, technologyCategory, PostStatus.DRAFT, tags));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<PostDTO> drafts = postRepository.findAllByAuthorAndStatus(testAuthor, PostStatus.DRAFT).stream()
+                .map(postMapper::toDTO)
+                .toList();
+
+        assertThat(drafts).allSatisfy(draft -> assertThat(draft.getTags()).hasSize(tags.size()));
+        long statementCount = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statementCount;
+    }
+
+    private List<PostSummaryView> listing(PostFilter filter, PostCursor after, int limit) {
+        return postRepository.findSummaries(PostSpecifications.listing(filter, after),
+                PostSpecifications.listingOrder(filter.getSort()), Limit.of(limit));
+    }
+
+    // createdAt is set on persist, so it is moved afterwards
+    private Post createdAt(Post post, LocalDateTime createdAt) {
+        entityManager.persistAndFlush(post);
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Post p SET p.createdAt = :createdAt WHERE p.id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", post.getId())
+                .executeUpdate();
+        return post;
+    }
+
+    private Statistics statistics() {
+        return entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    private Post createPost(String title, Category category, PostStatus status, Set<Tag> tags) {
+        return Post.builder()
+                .title(title)
+                .content("Sample content for " + title)
+                .status(status)
+                .readingTime(1)
+                .author(testAuthor)
+                .category(category)
+                .tags(new HashSet<>(tags))
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
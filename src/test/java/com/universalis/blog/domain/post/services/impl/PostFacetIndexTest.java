@@ -0,0 +1,186 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.TagMatchMode;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.tag.entities.Tag;
+import com.universalis.blog.domain.user.entities.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+
+class PostFacetIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 11, 1, 12, 0);
+
+    private PostFacetIndex postFacetIndex;
+    private Category technology;
+    private Category travel;
+    private Tag java;
+    private Tag spring;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        postFacetIndex = new PostFacetIndex(mock(PostRepository.class));
+        technology = Category.builder().id(UUID.randomUUID()).name("Technology").build();
+        travel = Category.builder().id(UUID.randomUUID()).name("Travel").build();
+        java = Tag.builder().id(UUID.randomUUID()).name("Java").build();
+        spring = Tag.builder().id(UUID.randomUUID()).name("Spring").build();
+        author = User.builder().id(UUID.randomUUID()).name("Author").build();
+    }
+
+    @Test
+    void countShouldMatchAllOrAnyTags() {
+        // given
+        index(createPost(1, technology, PostStatus.PUBLISHED, java));
+        index(createPost(2, technology, PostStatus.PUBLISHED, java, spring));
+        index(createPost(3, technology, PostStatus.PUBLISHED, spring));
+        Set<UUID> tagIds = Set.of(java.getId(), spring.getId());
+        // when
+        PostFacetIndex.FacetCounts all = postFacetIndex.count(filter(null, tagIds, TagMatchMode.ALL));
+        PostFacetIndex.FacetCounts any = postFacetIndex.count(filter(null, tagIds, TagMatchMode.ANY));
+        // then
+        assertThat(all.tags()).containsOnly(entry(java.getId(), 1L), entry(spring.getId(), 1L));
+        assertThat(all.categories()).containsOnly(entry(technology.getId(), 1L));
+        assertThat(any.tags()).containsOnly(entry(java.getId(), 2L), entry(spring.getId(), 2L));
+        assertThat(any.categories()).containsOnly(entry(technology.getId(), 3L));
+    }
+
+    @Test
+    void countShouldSkipDrafts() {
+        // given
+        index(createPost(1, technology, PostStatus.PUBLISHED, java));
+        index(createPost(2, travel, PostStatus.PUBLISHED, java));
+        index(createPost(3, technology, PostStatus.DRAFT, java, spring));
+        // when
+        PostFacetIndex.FacetCounts counts = postFacetIndex.count(
+                filter(technology.getId(), Set.of(java.getId()), TagMatchMode.ALL));
+        // then
+        assertThat(counts.tags()).containsOnly(entry(java.getId(), 1L));
+        assertThat(counts.categories()).containsOnly(entry(technology.getId(), 1L), entry(travel.getId(), 1L));
+    }
+
+    @Test
+    void indexShouldKeepCreationOrderWhenAnOlderDraftIsPublished() {
+        // given
+        Post draft = index(createPost(1, technology, PostStatus.DRAFT, java));
+        index(createPost(2, technology, PostStatus.PUBLISHED, spring));
+        // when
+        draft.setStatus(PostStatus.PUBLISHED);
+        postFacetIndex.index(draft);
+        // then
+        PostFacetIndex.FacetCounts counts = postFacetIndex.count(PostFilter.builder()
+                .createdTo(NOW.plusMinutes(2))
+                .build());
+        assertThat(counts.tags()).containsOnly(entry(java.getId(), 1L));
+    }
+
+    @Test
+    void indexShouldMoveUpdatedPostBetweenTagsAndRemoveDeletedPosts() {
+        // given
+        Post post = index(createPost(1, technology, PostStatus.PUBLISHED, java));
+        Post deleted = index(createPost(2, travel, PostStatus.PUBLISHED, java));
+        // when
+        post.setTags(new HashSet<>(Set.of(spring)));
+        postFacetIndex.index(post);
+        postFacetIndex.remove(deleted.getId());
+        // then
+        PostFacetIndex.FacetCounts counts = postFacetIndex.count(filter(null, Set.of(), TagMatchMode.ANY));
+        assertThat(counts.tags()).containsOnly(entry(spring.getId(), 1L));
+        assertThat(counts.categories()).containsOnly(entry(technology.getId(), 1L));
+    }
+
+    @Test
+    void countShouldRestrictTagsToFilterAndIgnoreCategoryFilterForCategories() {
+        // given
+        index(createPost(1, technology, PostStatus.PUBLISHED, java, spring));
+        index(createPost(2, technology, PostStatus.PUBLISHED, java));
+        index(createPost(3, travel, PostStatus.PUBLISHED, java));
+        index(createPost(4, travel, PostStatus.PUBLISHED, spring));
+        // when
+        PostFacetIndex.FacetCounts counts = postFacetIndex.count(
+                filter(technology.getId(), Set.of(java.getId()), TagMatchMode.ALL));
+        // then
+        assertThat(counts.tags()).containsOnly(entry(java.getId(), 2L), entry(spring.getId(), 1L));
+        assertThat(counts.categories()).containsOnly(entry(technology.getId(), 2L), entry(travel.getId(), 1L));
+    }
+
+    @Test
+    void countShouldOnlyCountPostsCreatedInRange() {
+        // given
+        index(createPost(1, technology, PostStatus.PUBLISHED, java));
+        index(createPost(2, technology, PostStatus.PUBLISHED, java, spring));
+        index(createPost(3, travel, PostStatus.PUBLISHED, spring));
+        Post removed = index(createPost(3, travel, PostStatus.PUBLISHED, java));
+        postFacetIndex.remove(removed.getId());
+        PostFilter filter = PostFilter.builder()
+                .createdFrom(NOW.plusMinutes(2))
+                .createdTo(NOW.plusMinutes(4))
+                .build();
+        // when
+        PostFacetIndex.FacetCounts counts = postFacetIndex.count(filter);
+        // then
+        assertThat(counts.tags()).containsOnly(entry(java.getId(), 1L), entry(spring.getId(), 2L));
+        assertThat(counts.categories()).containsOnly(entry(technology.getId(), 1L), entry(travel.getId(), 1L));
+    }
+
+    @Test
+    void countShouldFilterByAuthorAndCreationTime() {
+        // given
+        User otherAuthor = User.builder().id(UUID.randomUUID()).name("Other").build();
+        index(createPost(1, technology, PostStatus.PUBLISHED));
+        index(createPost(2, technology, PostStatus.PUBLISHED));
+        index(createPost(3, travel, PostStatus.PUBLISHED));
+        Post byOtherAuthor = createPost(2, technology, PostStatus.PUBLISHED);
+        byOtherAuthor.setAuthor(otherAuthor);
+        index(byOtherAuthor);
+        index(createPost(4, technology, PostStatus.PUBLISHED));
+        PostFilter filter = PostFilter.builder()
+                .authorId(author.getId())
+                .createdFrom(NOW.plusMinutes(1))
+                .createdTo(NOW.plusMinutes(4))
+                .build();
+        // when
+        PostFacetIndex.FacetCounts counts = postFacetIndex.count(filter);
+        // then
+        assertThat(counts.categories()).containsOnly(entry(technology.getId(), 2L), entry(travel.getId(), 1L));
+    }
+
+    private PostFilter filter(UUID categoryId, Set<UUID> tagIds, TagMatchMode mode) {
+        return PostFilter.builder()
+                .categoryId(categoryId)
+                .tagIds(tagIds)
+                .tagMatchMode(mode)
+                .build();
+    }
+
+    private Post index(Post post) {
+        postFacetIndex.index(post);
+        return post;
+    }
+
+    private Post createPost(int minutes, Category category, PostStatus status, Tag... tags) {
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .title("Post " + minutes)
+                .content("Content")
+                .status(status)
+                .category(category)
+                .author(author)
+                .tags(new HashSet<>(Set.of(tags)))
+                .createdAt(NOW.plusMinutes(minutes))
+                .build();
+    }
+}
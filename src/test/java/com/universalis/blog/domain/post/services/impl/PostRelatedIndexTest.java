@@ -0,0 +1,225 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.dtos.PostTagIdView;
+import com.universalis.blog.domain.post.dtos.PostTitleView;
+import com.universalis.blog.domain.post.dtos.RelatedPostDTO;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.tag.entities.Tag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class PostRelatedIndexTest {
+
+    private PostRelatedIndex postRelatedIndex;
+    private Tag java;
+    private Tag spring;
+    private Tag travel;
+    private LocalDateTime clock;
+
+    @BeforeEach
+    void setUp() {
+        postRelatedIndex = new PostRelatedIndex(mock(PostRepository.class), Runnable::run);
+        java = Tag.builder().id(UUID.randomUUID()).name("Java").build();
+        spring = Tag.builder().id(UUID.randomUUID()).name("Spring").build();
+        travel = Tag.builder().id(UUID.randomUUID()).name("Travel").build();
+        clock = LocalDateTime.now();
+    }
+
+    @Test
+    void findShouldRankByTagOverlapWithTitles() {
+        // given
+        Post post = index(createPost("Spring Boot on Java", PostStatus.PUBLISHED, java, spring));
+        Post sameTags = index(createPost("Spring Data", PostStatus.PUBLISHED, java, spring));
+        Post oneTag = index(createPost("Records", PostStatus.PUBLISHED, java));
+        index(createPost("Lisbon", PostStatus.PUBLISHED, travel));
+        index(createPost("Draft", PostStatus.DRAFT, java, spring));
+        // when
+        List<RelatedPostDTO> related = postRelatedIndex.find(post.getId());
+        // then
+        assertThat(related).extracting(RelatedPostDTO::getId).containsExactly(sameTags.getId(), oneTag.getId());
+        assertThat(related).extracting(RelatedPostDTO::getTitle).containsExactly("Spring Data", "Records");
+    }
+
+    @Test
+    void retaggingShouldUpdateNeighboursOfOtherPosts() {
+        // given
+        Post post = index(createPost("Spring Boot", PostStatus.PUBLISHED, java, spring));
+        Post other = index(createPost("Records", PostStatus.PUBLISHED, java));
+        // when
+        other.setTags(new HashSet<>(Set.of(travel)));
+        index(other);
+        // then
+        assertThat(postRelatedIndex.find(post.getId())).isEmpty();
+        assertThat(postRelatedIndex.find(other.getId())).isEmpty();
+    }
+
+    @Test
+    void removedAndUnpublishedPostsShouldLeaveNeighbourLists() {
+        // given
+        Post post = index(createPost("Spring Boot", PostStatus.PUBLISHED, java));
+        Post removed = index(createPost("Records", PostStatus.PUBLISHED, java));
+        Post unpublished = index(createPost("Streams", PostStatus.PUBLISHED, java));
+        // when
+        postRelatedIndex.remove(removed.getId());
+        unpublished.setStatus(PostStatus.DRAFT);
+        index(unpublished);
+        // then
+        assertThat(postRelatedIndex.find(post.getId())).isEmpty();
+    }
+
+    @Test
+    void incrementalUpdatesShouldMatchFullComputation() {
+        // given
+        Random random = new Random(7);
+        List<Tag> tags = IntStream.range(0, 6)
+                .mapToObj(i -> Tag.builder().id(UUID.randomUUID()).name("tag-" + i).build())
+                .toList();
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            posts.add(index(createPost("Post " + i, PostStatus.PUBLISHED, randomTags(random, tags))));
+        }
+        // when
+        for (int i = 0; i < 200; i++) {
+            Post post = posts.get(random.nextInt(posts.size()));
+            post.setTags(new HashSet<>(Set.of(randomTags(random, tags))));
+            index(post);
+        }
+        // then
+        for (Post post : posts) {
+            assertThat(postRelatedIndex.find(post.getId()))
+                    .extracting(RelatedPostDTO::getId)
+                    .as("neighbours of %s", post.getTitle())
+                    .containsExactlyElementsOf(expectedNeighbours(post, posts));
+        }
+    }
+
+    @Test
+    void neighboursShouldOnlyComeFromNewestPostsOfEachTag() {
+        // given
+        Post oldest = index(createPost("Oldest", PostStatus.PUBLISHED, java));
+        List<Post> newer = IntStream.range(0, PostRelatedIndex.CANDIDATES_PER_TAG)
+                .mapToObj(i -> index(createPost("Post " + i, PostStatus.PUBLISHED,
+                        java, Tag.builder().id(UUID.randomUUID()).name("tag-" + i).build())))
+                .toList();
+        // when
+        List<RelatedPostDTO> related = postRelatedIndex.find(newer.getLast().getId());
+        // then
+        // The oldest post would rank first on similarity but is past the newest posts tagged Java
+        assertThat(related).hasSize(PostRelatedIndex.NEIGHBOURS);
+        assertThat(related).extracting(RelatedPostDTO::getId).doesNotContain(oldest.getId());
+        assertThat(postRelatedIndex.find(oldest.getId())).hasSize(PostRelatedIndex.NEIGHBOURS);
+    }
+
+    @Test
+    void rebuildShouldKeepWritesMadeWhileItRuns() {
+        // given
+        PostRepository postRepository = mock(PostRepository.class);
+        PostRelatedIndex index = new PostRelatedIndex(postRepository, Runnable::run);
+        Post stored = createPost("Spring Boot", PostStatus.PUBLISHED, java);
+        Post written = createPost("Records", PostStatus.PUBLISHED, java);
+        List<PostTagIdView> storedTags = List.of(tagIdView(stored.getId(), java.getId()));
+        List<PostTitleView> storedTitles = List.of(titleView(stored));
+        when(postRepository.findTagIdsByStatus(PostStatus.PUBLISHED)).thenReturn(storedTags);
+        when(postRepository.findTitlesByStatus(PostStatus.PUBLISHED)).thenAnswer(invocation -> {
+            // Committed after the rebuild read the tags
+            index.index(written);
+            return storedTitles;
+        });
+        // when
+        index.rebuild();
+        // then
+        assertThat(index.find(stored.getId())).extracting(RelatedPostDTO::getId).containsExactly(written.getId());
+        assertThat(index.find(written.getId())).extracting(RelatedPostDTO::getId).containsExactly(stored.getId());
+    }
+
+    @Test
+    void rebuildInBackgroundShouldHandRebuildToExecutor() {
+        // given
+        PostRepository postRepository = mock(PostRepository.class);
+        List<Runnable> submitted = new ArrayList<>();
+        PostRelatedIndex index = new PostRelatedIndex(postRepository, submitted::add);
+        // when
+        index.rebuildInBackground();
+        // then
+        assertThat(submitted).hasSize(1);
+        verifyNoInteractions(postRepository);
+        submitted.getFirst().run();
+        verify(postRepository).findTitlesByStatus(PostStatus.PUBLISHED);
+    }
+
+    private static List<UUID> expectedNeighbours(Post post, List<Post> posts) {
+        Map<UUID, Double> similarities = new HashMap<>();
+        for (Post other : posts) {
+            Set<Tag> shared = new HashSet<>(post.getTags());
+            shared.retainAll(other.getTags());
+            if (other != post && !shared.isEmpty()) {
+                Set<Tag> union = new HashSet<>(post.getTags());
+                union.addAll(other.getTags());
+                similarities.put(other.getId(), (double) shared.size() / union.size());
+            }
+        }
+        return similarities.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())))
+                .limit(PostRelatedIndex.NEIGHBOURS)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static Tag[] randomTags(Random random, List<Tag> tags) {
+        return tags.stream().filter(tag -> random.nextInt(3) == 0).toArray(Tag[]::new);
+    }
+
+    private static PostTagIdView tagIdView(UUID postId, UUID tagId) {
+        PostTagIdView view = mock(PostTagIdView.class);
+        when(view.getPostId()).thenReturn(postId);
+        when(view.getTagId()).thenReturn(tagId);
+        return view;
+    }
+
+    private static PostTitleView titleView(Post post) {
+        PostTitleView view = mock(PostTitleView.class);
+        when(view.getId()).thenReturn(post.getId());
+        when(view.getTitle()).thenReturn(post.getTitle());
+        when(view.getCreatedAt()).thenReturn(post.getCreatedAt());
+        return view;
+    }
+
+    private Post index(Post post) {
+        postRelatedIndex.index(post);
+        return post;
+    }
+
+    // Each post is created a second after the previous one
+    private Post createPost(String title, PostStatus status, Tag... tags) {
+        clock = clock.plusSeconds(1);
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .content("Content")
+                .status(status)
+                .tags(new HashSet<>(Set.of(tags)))
+                .createdAt(clock)
+                .build();
+    }
+}
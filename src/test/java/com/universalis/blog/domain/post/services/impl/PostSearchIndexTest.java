@@ -0,0 +1,97 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex(mock(PostRepository.class), Runnable::run);
+    }
+
+    @Test
+    void searchShouldRankTitleMatchesAboveContentMatches() {
+        // given
+        Post inContent = createPost("Weekend notes", "A short trip to the Tatra mountains", PostStatus.PUBLISHED);
+        Post inTitle = createPost("Tatra mountains", "Notes from a short trip", PostStatus.PUBLISHED);
+        postSearchIndex.index(inContent);
+        postSearchIndex.index(inTitle);
+        // when, then
+        assertThat(postSearchIndex.search("tatra", 10)).containsExactly(inTitle.getId(), inContent.getId());
+    }
+
+    @Test
+    void searchShouldIgnoreCaseAndPunctuation() {
+        // given
+        Post post = createPost("Żółć, Java!", "Content", PostStatus.PUBLISHED);
+        postSearchIndex.index(post);
+        // when, then
+        assertThat(postSearchIndex.search("żÓŁĆ java?", 10)).containsExactly(post.getId());
+    }
+
+    @Test
+    void searchShouldNotReturnDraftsOrRemovedPosts() {
+        // given
+        Post draft = createPost("Spring Boot", "Draft content", PostStatus.DRAFT);
+        Post published = createPost("Spring Boot", "Published content", PostStatus.PUBLISHED);
+        postSearchIndex.index(draft);
+        postSearchIndex.index(published);
+        // when
+        postSearchIndex.remove(published.getId());
+        // then
+        assertThat(postSearchIndex.search("spring", 10)).isEmpty();
+    }
+
+    @Test
+    void indexShouldReplacePreviousTermsOnUpdate() {
+        // given
+        Post post = createPost("Kotlin", "Content", PostStatus.PUBLISHED);
+        postSearchIndex.index(post);
+        // when
+        post.setTitle("Java");
+        postSearchIndex.index(post);
+        // then
+        assertThat(postSearchIndex.search("kotlin", 10)).isEmpty();
+        assertThat(postSearchIndex.search("java", 10)).containsExactly(post.getId());
+    }
+
+    @Test
+    void rebuildInBackgroundShouldHandRebuildToExecutor() {
+        // given
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.findSearchDocuments(any(), any(), any())).thenReturn(List.of());
+        List<Runnable> submitted = new ArrayList<>();
+        PostSearchIndex index = new PostSearchIndex(postRepository, submitted::add);
+        // when
+        index.rebuildInBackground();
+        // then
+        assertThat(submitted).hasSize(1);
+        verifyNoInteractions(postRepository);
+        submitted.getFirst().run();
+        verify(postRepository).findSearchDocuments(PostStatus.PUBLISHED, null, Limit.of(500));
+    }
+
+    private Post createPost(String title, String content, PostStatus status) {
+        return Post.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .content(content)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.category.entities.Category;
+import com.universalis.blog.domain.category.repositories.CategoryRepository;
+import com.universalis.blog.domain.post.dtos.CreatePostRequest;
+import com.universalis.blog.domain.post.dtos.RelatedPostDTO;
+import com.universalis.blog.domain.post.entities.Post;
+import com.universalis.blog.domain.post.entities.PostStatus;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.post.services.PostService;
+import com.universalis.blog.domain.tag.entities.Tag;
+import com.universalis.blog.domain.tag.repositories.TagRepository;
+import com.universalis.blog.domain.user.entities.User;
+import com.universalis.blog.domain.user.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not @Transactional: the in-memory indexes are only updated once the service's transactions commit
+@SpringBootTest
+@ActiveProfiles("test")
+class PostServiceImplIntegrationTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<UUID> postIds = new ArrayList<>();
+    private User author;
+    private Category category;
+    private Tag java;
+    private Tag spring;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.builder()
+                .email("related." + UUID.randomUUID() + "@example.com")
+                .password("password123")
+                .name("Related posts author")
+                .createdAt(LocalDateTime.now())
+                .build());
+        category = categoryRepository.save(Category.builder()
+                .name("Related " + UUID.randomUUID().toString().substring(0, 8))
+                .posts(new ArrayList<>())
+                .build());
+        java = tagRepository.save(Tag.builder().name("Java " + UUID.randomUUID()).posts(new HashSet<>()).build());
+        spring = tagRepository.save(Tag.builder().name("Spring " + UUID.randomUUID()).posts(new HashSet<>()).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        postIds.stream().filter(postRepository::existsById).forEach(postService::deletePost);
+        tagRepository.deleteAll(List.of(java, spring));
+        categoryRepository.delete(category);
+        userRepository.delete(author);
+    }
+
+    @Test
+    void deletePostShouldDropItFromNeighboursRelatedPosts() {
+        // given
+        Post post = createPost("Virtual threads", Set.of(java.getId(), spring.getId()));
+        Post neighbour = createPost("Spring Boot on Java 23", Set.of(java.getId(), spring.getId()));
+        Post otherNeighbour = createPost("Java records", Set.of(java.getId()));
+        assertThat(postService.getRelatedPosts(post.getId()))
+                .extracting(RelatedPostDTO::getId)
+                .containsExactly(neighbour.getId(), otherNeighbour.getId());
+        // when
+        postService.deletePost(neighbour.getId());
+        // then
+        assertThat(postService.getRelatedPosts(post.getId()))
+                .extracting(RelatedPostDTO::getId)
+                .containsExactly(otherNeighbour.getId());
+        assertThat(postService.getRelatedPosts(neighbour.getId())).isEmpty();
+    }
+
+    private Post createPost(String title, Set<UUID> tagIds) {
+        Post post = postService.createPost(author, CreatePostRequest.builder()
+                .title(title)
+                .content("Content of " + title)
+                .categoryId(category.getId())
+                .tagIds(tagIds)
+                .status(PostStatus.PUBLISHED)
+                .build());
+        postIds.add(post.getId());
+        return post;
+    }
+}
@@ -0,0 +1,131 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.category.services.CategoryService;
+import com.universalis.blog.domain.common.services.ContentVersions;
+import com.universalis.blog.domain.post.dtos.PostCursor;
+import com.universalis.blog.domain.post.dtos.PostFilter;
+import com.universalis.blog.domain.post.dtos.PostPageDTO;
+import com.universalis.blog.domain.post.dtos.PostSort;
+import com.universalis.blog.domain.post.dtos.PostSummaryDTO;
+import com.universalis.blog.domain.post.dtos.PostSummaryRow;
+import com.universalis.blog.domain.post.dtos.PostSummaryView;
+import com.universalis.blog.domain.post.mappers.PostMapper;
+import com.universalis.blog.domain.post.repositories.PostRepository;
+import com.universalis.blog.domain.post.repositories.PostSpecifications;
+import com.universalis.blog.domain.post.repositories.PostViewCountRepository;
+import com.universalis.blog.domain.tag.services.TagService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostServiceImplTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private TagService tagService;
+
+    @Mock
+    private PostMapper postMapper;
+
+    @Mock
+    private ContentVersions contentVersions;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostFacetIndex postFacetIndex;
+
+    @Mock
+    private PostViewCounter postViewCounter;
+
+    @Mock
+    private PostViewCountRepository postViewCountRepository;
+
+    @Mock
+    private PostTrendingIndex postTrendingIndex;
+
+    @Mock
+    private PostRelatedIndex postRelatedIndex;
+
+    @InjectMocks
+    private PostServiceImpl postService;
+
+    private PostFilter filter;
+    private PostCursor after;
+    private List<PostSummaryView> rows;
+
+    @BeforeEach
+    void setUp() {
+        filter = PostFilter.builder().build();
+        // Not the first page, so no facets are computed
+        LocalDateTime now = LocalDateTime.now();
+        after = new PostCursor(now, UUID.randomUUID());
+        rows = List.of(row(now.minusMinutes(1)), row(now.minusMinutes(2)), row(now.minusMinutes(3)));
+    }
+
+    @Test
+    void getAllPostsShouldContinueAfterLastPostOfPageWhenMoreRowsFollow() {
+        // given
+        when(postRepository.findSummaries(any(), eq(PostSpecifications.listingOrder(PostSort.NEWEST)), eq(Limit.of(3))))
+                .thenReturn(rows);
+        when(postRepository.findTagNamesByPostIds(any())).thenReturn(List.of());
+        when(postMapper.toSummaryDTO(any())).thenReturn(new PostSummaryDTO());
+        // when
+        PostPageDTO page = postService.getAllPosts(filter, after.encode(), 2);
+        // then
+        PostSummaryView last = rows.get(1);
+        assertEquals(2, page.getItems().size());
+        assertEquals(new PostCursor(last.getCreatedAt(), last.getId()), PostCursor.decode(page.getNextCursor()));
+        verifyNoInteractions(postFacetIndex);
+    }
+
+    @Test
+    void getAllPostsShouldEndListingWhenNoMoreRowsFollow() {
+        // given
+        when(postRepository.findSummaries(any(), any(), eq(Limit.of(4)))).thenReturn(rows);
+        when(postRepository.findTagNamesByPostIds(any())).thenReturn(List.of());
+        when(postMapper.toSummaryDTO(any())).thenReturn(new PostSummaryDTO());
+        // when
+        PostPageDTO page = postService.getAllPosts(filter, after.encode(), 3);
+        // then
+        assertEquals(3, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getAllPostsShouldRejectEmptyCreationTimeRange() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PostFilter emptyRange = PostFilter.builder()
+                .createdFrom(now)
+                .createdTo(now)
+                .build();
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> postService.getAllPosts(emptyRange, null, 10));
+        verifyNoInteractions(postRepository);
+    }
+
+    private static PostSummaryView row(LocalDateTime createdAt) {
+        return new PostSummaryRow(UUID.randomUUID(), "Title", "Excerpt", 1, "Author", "Category", createdAt);
+    }
+}
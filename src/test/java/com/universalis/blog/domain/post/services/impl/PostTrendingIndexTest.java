@@ -0,0 +1,113 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.repositories.PostTrendingScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PostTrendingIndexTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    private PostTrendingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostTrendingIndex(mock(PostTrendingScoreRepository.class), mock(JdbcTemplate.class),
+                mock(PlatformTransactionManager.class), Duration.ofHours(1));
+    }
+
+    @Test
+    void morePostViewsShouldRankHigher() {
+        // given
+        UUID popular = UUID.randomUUID();
+        UUID quiet = UUID.randomUUID();
+        // when
+        index.record(quiet, 1, START);
+        index.record(popular, 1, START);
+        index.record(popular, 1, START);
+        // then
+        assertThat(index.top(10)).containsExactly(popular, quiet);
+    }
+
+    @Test
+    void recentViewsShouldOutweighOlderOnes() {
+        // given
+        UUID yesterday = UUID.randomUUID();
+        UUID now = UUID.randomUUID();
+        // when: three views two half-lives ago weigh 0.75 today
+        for (int i = 0; i < 3; i++) {
+            index.record(yesterday, 1, START);
+        }
+        index.record(now, 1, START.plus(Duration.ofHours(2)));
+        // then
+        assertThat(index.top(10)).containsExactly(now, yesterday);
+    }
+
+    @Test
+    void rankingShouldSurviveRescalingAfterLongGaps() {
+        // given
+        UUID older = UUID.randomUUID();
+        UUID newer = UUID.randomUUID();
+        index.record(older, 1, START);
+        // when: far enough apart for the forward-decayed scores to be rescaled
+        index.record(newer, 1, START.plus(Duration.ofHours(100)));
+        index.record(newer, 1, START.plus(Duration.ofHours(100)));
+        // then
+        assertThat(index.top(10)).containsExactly(newer);
+    }
+
+    @Test
+    void topShouldKeepOnlyTheHighestScores() {
+        // given
+        UUID hot = UUID.randomUUID();
+        index.record(hot, 10, START);
+        // when
+        for (int i = 0; i < PostTrendingIndex.CAPACITY + 50; i++) {
+            index.record(UUID.randomUUID(), 1, START);
+        }
+        // then
+        List<UUID> top = index.top(PostTrendingIndex.CAPACITY + 50);
+        assertThat(top).hasSize(PostTrendingIndex.CAPACITY);
+        assertThat(top.getFirst()).isEqualTo(hot);
+    }
+
+    @Test
+    void removedPostShouldLeaveRanking() {
+        // given
+        UUID post = UUID.randomUUID();
+        index.record(post, 1, START);
+        // when
+        index.remove(post);
+        // then
+        assertThat(index.top(10)).isEmpty();
+    }
+
+    @Test
+    void removingPostFromFullTopShouldPromoteNextHighest() {
+        // given: post i has i + 1 views, so post 0 ranks just outside the top
+        List<UUID> posts = IntStream.rangeClosed(0, PostTrendingIndex.CAPACITY)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
+        for (int i = 0; i < posts.size(); i++) {
+            index.record(posts.get(i), i + 1, START);
+        }
+        // when
+        index.remove(posts.getLast());
+        // then
+        assertThat(index.top(PostTrendingIndex.CAPACITY))
+                .hasSize(PostTrendingIndex.CAPACITY)
+                .doesNotContain(posts.getLast())
+                .endsWith(posts.getFirst());
+    }
+}
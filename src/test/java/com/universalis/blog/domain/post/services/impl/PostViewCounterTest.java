@@ -0,0 +1,133 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import com.universalis.blog.domain.post.entities.PostViewCount;
+import com.universalis.blog.domain.post.repositories.PostViewCountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PostViewCounter.class)
+@ActiveProfiles("test")
+class PostViewCounterTest {
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    @Autowired
+    private PostViewCountRepository postViewCountRepository;
+
+    @Test
+    void concurrentViewsShouldAllBeCounted() throws Exception {
+        // given
+        UUID postId = UUID.randomUUID();
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            IntStream.range(0, 1000).forEach(i -> executor.submit(() -> postViewCounter.increment(postId)));
+        }
+        // then
+        assertThat(postViewCounter.count(postId)).isEqualTo(1000);
+    }
+
+    @Test
+    void flushShouldUpsertDeltasAndKeepTotals() {
+        // given
+        UUID postId = UUID.randomUUID();
+        postViewCounter.increment(postId);
+        postViewCounter.increment(postId);
+        // when
+        postViewCounter.flush();
+        postViewCounter.increment(postId);
+        postViewCounter.flush();
+        // then
+        assertThat(postViewCountRepository.findById(postId)).get()
+                .extracting(PostViewCount::getViews)
+                .isEqualTo(3L);
+        assertThat(postViewCounter.count(postId)).isEqualTo(3);
+    }
+
+    @Test
+    void flushWithoutNewViewsShouldWriteNothing() {
+        // given
+        UUID postId = UUID.randomUUID();
+        postViewCounter.increment(postId);
+        postViewCounter.flush();
+        // when
+        postViewCounter.flush();
+        // then
+        assertThat(postViewCountRepository.findById(postId)).get()
+                .extracting(PostViewCount::getViews)
+                .isEqualTo(1L);
+    }
+
+    @Test
+    void incrementAfterRemoveShouldNotRecreateCounter() {
+        // given
+        UUID postId = UUID.randomUUID();
+        // remove() takes effect when the deleting transaction commits; without one it acts immediately
+        TestTransaction.end();
+        postViewCounter.increment(postId);
+        postViewCounter.remove(postId);
+        // when
+        long views = postViewCounter.increment(postId);
+        postViewCounter.flush();
+        // then
+        assertThat(views).isZero();
+        assertThat(postViewCounter.count(postId)).isZero();
+        assertThat(postViewCountRepository.findById(postId)).isEmpty();
+    }
+
+    @Test
+    void flushShouldRetireDrainedCounters() {
+        // given
+        UUID postId = UUID.randomUUID();
+        postViewCounter.increment(postId);
+        // when
+        postViewCounter.flush();
+        // then
+        assertThat(pending()).doesNotContainKey(postId);
+        assertThat(postViewCounter.count(postId)).isEqualTo(1);
+        assertThat(postViewCounter.increment(postId)).isEqualTo(2);
+    }
+
+    @Test
+    void viewsCountedWhileFlushingShouldAllBeWritten() throws Exception {
+        // given
+        UUID postId = UUID.randomUUID();
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> views = IntStream.range(0, 5000)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> postViewCounter.increment(postId)))
+                    .toList();
+            while (!views.stream().allMatch(Future::isDone)) {
+                postViewCounter.flush();
+            }
+        }
+        postViewCounter.flush();
+        // then
+        assertThat(postViewCounter.count(postId)).isEqualTo(5000);
+        assertThat(postViewCountRepository.findById(postId)).get()
+                .extracting(PostViewCount::getViews)
+                .isEqualTo(5000L);
+        assertThat(pending()).doesNotContainKey(postId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, ?> pending() {
+        return (Map<UUID, ?>) ReflectionTestUtils.getField(postViewCounter, "pending");
+    }
+}
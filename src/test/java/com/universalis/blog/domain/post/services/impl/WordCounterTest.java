@@ -0,0 +1,30 @@
+package com.universalis.blog.domain.post.services.impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WordCounterTest {
+
+    @Test
+    void countWhenContentIsNullOrBlankShouldReturnZero() {
+        assertEquals(0, WordCounter.count(null));
+        assertEquals(0, WordCounter.count(""));
+        assertEquals(0, WordCounter.count(" \t\n "));
+    }
+
+    @Test
+    void countShouldIgnoreLeadingTrailingAndRepeatedWhitespace() {
+        assertEquals(4, WordCounter.count("  one two\t\tthree\n\nfour  "));
+    }
+
+    @Test
+    void countShouldTreatUnicodeSpacesAsSeparators() {
+        assertEquals(3, WordCounter.count("zażółć\u00A0gęślą\u2003jaźń"));
+    }
+
+    @Test
+    void countShouldNotSplitSurrogatePairs() {
+        assertEquals(2, WordCounter.count("😀😀 emoji"));
+    }
+}
@@ -5,6 +5,7 @@ import com.universalis.blog.domain.user.dtos.UserDTO;
 import com.universalis.blog.domain.user.entities.User;
 import com.universalis.blog.domain.user.repositories.UserRepository;
 import com.universalis.blog.exceptions.UserRegistrationException;
+import com.universalis.blog.security.BlogUserDetailsService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,9 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private BlogUserDetailsService userDetailsService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -99,6 +103,7 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).findByEmail(registerRequest.getEmail());
         verify(passwordEncoder, times(1)).encode(registerRequest.getPassword());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userDetailsService, times(1)).evict(testUser.getEmail());
     }
 
     @Test
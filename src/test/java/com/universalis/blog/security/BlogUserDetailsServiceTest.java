@@ -0,0 +1,96 @@
+package com.universalis.blog.security;
+
+import com.universalis.blog.domain.user.entities.User;
+import com.universalis.blog.domain.user.repositories.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.Executable;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogUserDetailsServiceTest {
+
+    private static final String EMAIL = "justyna.kowalczyk@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private BlogUserDetailsService userDetailsService;
+    private MeterRegistry meterRegistry;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new BlogUserDetailsService(userRepository, 100, Duration.ofMinutes(5));
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService.bindTo(meterRegistry);
+        testUser = User.builder()
+                .id(UUID.randomUUID())
+                .name("Justyna Kowalczyk")
+                .email(EMAIL)
+                .password("cross-country-password")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void loadUserByUsernameShouldQueryRepositoryOnlyOnceForRepeatedLookups() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+        // when
+        UserDetails first = userDetailsService.loadUserByUsername(EMAIL);
+        UserDetails second = userDetailsService.loadUserByUsername(EMAIL);
+        // then
+        assertEquals(EMAIL, first.getUsername());
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        assertEquals(1, cacheGets("miss"));
+        assertEquals(1, cacheGets("hit"));
+    }
+
+    @Test
+    void evictShouldForceNextLookupToHitRepository() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(testUser));
+        userDetailsService.loadUserByUsername(EMAIL);
+        // when
+        userDetailsService.evict(EMAIL);
+        userDetailsService.loadUserByUsername(EMAIL);
+        // then
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void loadUserByUsernameWithUnknownEmailShouldThrowAndNotCache() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+        // when
+        Executable result = () -> userDetailsService.loadUserByUsername(EMAIL);
+        // then
+        assertThrows(UsernameNotFoundException.class, result);
+        assertThrows(UsernameNotFoundException.class, result);
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", BlogUserDetailsService.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}